@@ -0,0 +1,346 @@
+package sortAlgorithms;
+
+// Run-adaptive hybrid of InsertionSort and MergeSort
+// The input is cut into natural runs (strictly descending runs are reversed) and runs shorter
+// than MergeSort.INSERTION_CUTOFF are extended with binary insertion sort. Runs go on a stack
+// where every run is kept more than twice as long as the one above it, which bounds the stack
+// depth and keeps merges balanced. Before each merge, galloping searches trim the elements
+// that are already in place. The merge itself stages only the shorter run and switches to
+// galloping while one run keeps winning, so input made of a few long sorted runs sorts in close
+// to linear time
+public class AdaptiveSort {
+
+    // Runs shorter than this are extended with binary insertion sort
+    static final int MIN_RUN = MergeSort.INSERTION_CUTOFF;
+
+    // Run lengths at least double going down the stack, so 32 entries cover any int-indexed array
+    static final int MAX_RUNS = 32;
+
+    // Number of consecutive wins by one run before a merge switches to galloping
+    static final int MIN_GALLOP = 7;
+
+    final int[] arr;
+    final int length;
+    int[] buffer; // Holds the shorter run of a merge, grown on demand up to half the range
+    int minGallop = MIN_GALLOP; // Adjusted as merges find galloping paying off or not
+
+    // Stack of pending runs: run i starts at runBase[i] and holds runLen[i] elements
+    final int[] runBase = new int[MAX_RUNS];
+    final int[] runLen = new int[MAX_RUNS];
+    int stackSize = 0;
+
+    AdaptiveSort(int[] arr, int length) {
+        this.arr = arr;
+        this.length = length;
+    }
+
+    // Method to sort the whole array
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    // Method to sort the range [from, to) of an array
+    public static void sort(int[] arr, int from, int to) {
+        if (to - from < 2)
+            return;
+
+        AdaptiveSort sorter = new AdaptiveSort(arr, to - from);
+        int lo = from;
+        while (lo < to) {
+            // Find the next natural run, extending it to MIN_RUN if it is too short
+            int runEnd = lo + findRun(arr, lo, to);
+            if (runEnd - lo < MIN_RUN) {
+                int forced = lo + Math.min(MIN_RUN, to - lo);
+                InsertionSort.binarySort(arr, lo, forced, runEnd);
+                runEnd = forced;
+            }
+
+            sorter.pushRun(lo, runEnd - lo);
+            sorter.mergeCollapse();
+            lo = runEnd;
+        }
+
+        // Merge whatever is left on the stack, top first
+        while (sorter.stackSize > 1) {
+            sorter.mergeTop();
+        }
+    }
+
+    // Length of the run starting at lo; a strictly descending run is reversed in place
+    static int findRun(int[] arr, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi)
+            return 1;
+
+        if (arr[runHi++] < arr[lo]) {
+            // Strictly descending, so reversing it cannot reorder equal elements
+            while (runHi < hi && arr[runHi] < arr[runHi - 1])
+                runHi++;
+            reverseRange(arr, lo, runHi);
+        } else {
+            while (runHi < hi && arr[runHi] >= arr[runHi - 1])
+                runHi++;
+        }
+        return runHi - lo;
+    }
+
+    // Reverse the range [lo, hi) of an array
+    static void reverseRange(int[] arr, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            int temp = arr[lo];
+            arr[lo++] = arr[hi];
+            arr[hi--] = temp;
+        }
+    }
+
+    void pushRun(int base, int len) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = len;
+        stackSize++;
+    }
+
+    // Merge the top two runs while the lower one is not more than twice as long as the upper one
+    void mergeCollapse() {
+        while (stackSize > 1 && runLen[stackSize - 2] <= 2 * (long) runLen[stackSize - 1]) {
+            mergeTop();
+        }
+    }
+
+    // Merge the two runs on top of the stack into one
+    void mergeTop() {
+        int lo = runBase[stackSize - 2];
+        int mid = runBase[stackSize - 1];
+        int hi = mid + runLen[stackSize - 1];
+        runLen[stackSize - 2] += runLen[stackSize - 1];
+        stackSize--;
+
+        // Left elements not greater than the first right element are already in place
+        lo = gallopUpper(arr, arr[mid], lo, mid);
+        if (lo == mid)
+            return;
+
+        // Right elements not less than the last left element are already in place
+        hi = gallopLowerFromEnd(arr, arr[mid - 1], mid, hi);
+
+        // Stage the shorter run, so the buffer never needs more than half the range
+        if (mid - lo <= hi - mid)
+            mergeLow(lo, mid, hi);
+        else
+            mergeHigh(lo, mid, hi);
+    }
+
+    // Make sure the buffer holds at least n elements
+    void ensureBuffer(int n) {
+        if (buffer != null && buffer.length >= n)
+            return;
+        // Grow geometrically so a series of slightly larger merges does not reallocate every time
+        int size = buffer == null ? n : Math.max(n, Math.min(buffer.length * 2, length >>> 1));
+        buffer = new int[size];
+    }
+
+    // Merge [lo, mid) and [mid, hi) front to back, with the shorter left run staged in the buffer
+    void mergeLow(int lo, int mid, int hi) {
+        ensureBuffer(mid - lo);
+        System.arraycopy(arr, lo, buffer, 0, mid - lo);
+        int i = 0, leftEnd = mid - lo;
+        int j = mid, k = lo;
+        int gallop = minGallop;
+
+        outer:
+        while (true) {
+            // Take one element at a time until one run has won MIN_GALLOP times in a row
+            int leftWins = 0, rightWins = 0;
+            do {
+                // Take from the left run on ties to keep the sort stable
+                if (arr[j] < buffer[i]) {
+                    arr[k++] = arr[j++];
+                    rightWins++;
+                    leftWins = 0;
+                    if (j == hi)
+                        break outer;
+                } else {
+                    arr[k++] = buffer[i++];
+                    leftWins++;
+                    rightWins = 0;
+                    if (i == leftEnd)
+                        break outer;
+                }
+            } while ((leftWins | rightWins) < gallop);
+
+            // Copy whole blocks found by galloping until neither run wins by MIN_GALLOP any more
+            do {
+                int end = gallopUpper(buffer, arr[j], i, leftEnd);
+                leftWins = end - i;
+                System.arraycopy(buffer, i, arr, k, leftWins);
+                k += leftWins;
+                i = end;
+                if (i == leftEnd)
+                    break outer;
+                arr[k++] = arr[j++];
+                if (j == hi)
+                    break outer;
+
+                end = gallopLower(arr, buffer[i], j, hi);
+                rightWins = end - j;
+                System.arraycopy(arr, j, arr, k, rightWins);
+                k += rightWins;
+                j = end;
+                if (j == hi)
+                    break outer;
+                arr[k++] = buffer[i++];
+                if (i == leftEnd)
+                    break outer;
+                gallop--;
+            } while (leftWins >= MIN_GALLOP || rightWins >= MIN_GALLOP);
+
+            // Galloping stopped paying off, so make it harder to enter again
+            gallop = Math.max(gallop, 0) + 2;
+        }
+        minGallop = Math.max(gallop, 1);
+
+        // Copy any remaining elements from the left run; the rest of the right run is already in place
+        System.arraycopy(buffer, i, arr, k, leftEnd - i);
+    }
+
+    // Merge [lo, mid) and [mid, hi) back to front, with the shorter right run staged in the buffer
+    void mergeHigh(int lo, int mid, int hi) {
+        ensureBuffer(hi - mid);
+        System.arraycopy(arr, mid, buffer, 0, hi - mid);
+        int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+        int gallop = minGallop;
+
+        outer:
+        while (true) {
+            int leftWins = 0, rightWins = 0;
+            do {
+                // Going backwards, take from the right run on ties to keep the sort stable
+                if (buffer[j] < arr[i]) {
+                    arr[k--] = arr[i--];
+                    leftWins++;
+                    rightWins = 0;
+                    if (i < lo)
+                        break outer;
+                } else {
+                    arr[k--] = buffer[j--];
+                    rightWins++;
+                    leftWins = 0;
+                    if (j < 0)
+                        break outer;
+                }
+            } while ((leftWins | rightWins) < gallop);
+
+            do {
+                int start = gallopUpperFromEnd(arr, buffer[j], lo, i + 1);
+                leftWins = i + 1 - start;
+                k -= leftWins;
+                System.arraycopy(arr, start, arr, k + 1, leftWins);
+                i = start - 1;
+                if (i < lo)
+                    break outer;
+                arr[k--] = buffer[j--];
+                if (j < 0)
+                    break outer;
+
+                start = gallopLowerFromEnd(buffer, arr[i], 0, j + 1);
+                rightWins = j + 1 - start;
+                k -= rightWins;
+                System.arraycopy(buffer, start, arr, k + 1, rightWins);
+                j = start - 1;
+                if (j < 0)
+                    break outer;
+                arr[k--] = arr[i--];
+                if (i < lo)
+                    break outer;
+                gallop--;
+            } while (leftWins >= MIN_GALLOP || rightWins >= MIN_GALLOP);
+
+            gallop = Math.max(gallop, 0) + 2;
+        }
+        minGallop = Math.max(gallop, 1);
+
+        // Copy any remaining elements from the right run; the rest of the left run is already in place
+        System.arraycopy(buffer, 0, arr, k - j, j + 1);
+    }
+
+    // First index in the ascending range [lo, hi) whose element is greater than key, probing from lo
+    static int gallopUpper(int[] arr, int key, int lo, int hi) {
+        // Widen the window exponentially until its end passes the key, then binary search inside it
+        int step = 1;
+        int end = lo;
+        while (end < hi && arr[end] <= key) {
+            lo = end + 1;
+            end = step < hi - lo ? lo + step : hi;
+            if (step < 1 << 30)
+                step <<= 1;
+        }
+        while (lo < end) {
+            int mid = (lo + end) >>> 1;
+            if (arr[mid] <= key)
+                lo = mid + 1;
+            else
+                end = mid;
+        }
+        return lo;
+    }
+
+    // First index in the ascending range [lo, hi) whose element is not less than key, probing from lo
+    static int gallopLower(int[] arr, int key, int lo, int hi) {
+        int step = 1;
+        int end = lo;
+        while (end < hi && arr[end] < key) {
+            lo = end + 1;
+            end = step < hi - lo ? lo + step : hi;
+            if (step < 1 << 30)
+                step <<= 1;
+        }
+        while (lo < end) {
+            int mid = (lo + end) >>> 1;
+            if (arr[mid] < key)
+                lo = mid + 1;
+            else
+                end = mid;
+        }
+        return lo;
+    }
+
+    // First index in the ascending range [lo, hi) whose element is greater than key, probing from hi
+    static int gallopUpperFromEnd(int[] arr, int key, int lo, int hi) {
+        int step = 1;
+        int start = hi;
+        while (start > lo && arr[start - 1] > key) {
+            hi = start - 1;
+            start = step < hi - lo ? hi - step : lo;
+            if (step < 1 << 30)
+                step <<= 1;
+        }
+        while (start < hi) {
+            int mid = (start + hi) >>> 1;
+            if (arr[mid] <= key)
+                start = mid + 1;
+            else
+                hi = mid;
+        }
+        return start;
+    }
+
+    // First index in the ascending range [lo, hi) whose element is not less than key, probing from hi
+    static int gallopLowerFromEnd(int[] arr, int key, int lo, int hi) {
+        int step = 1;
+        int start = hi;
+        while (start > lo && arr[start - 1] >= key) {
+            hi = start - 1;
+            start = step < hi - lo ? hi - step : lo;
+            if (step < 1 << 30)
+                step <<= 1;
+        }
+        while (start < hi) {
+            int mid = (start + hi) >>> 1;
+            if (arr[mid] < key)
+                start = mid + 1;
+            else
+                hi = mid;
+        }
+        return start;
+    }
+}
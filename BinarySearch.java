@@ -1,45 +1,244 @@
 package searchAlgorithms;
 
+import java.util.Arrays;
+
 // Binary Search implementation for a sorted array
 public class BinarySearch {
 	
+	// Number of lookups advanced together by searchBatch
+	static final int BATCH_WIDTH = 8;
+	
 	// Method to perform binary search
 	public static int search(int[] arr, int target) {
 		
-		// Initialize the start and end indices of the search range
+		// An empty array cannot contain the target
+		if (arr.length == 0) {
+			return -1;
+		}
+		
+		// Check once, before the loop, if the array is in ascending or descending order
+		if (arr[0] < arr[arr.length - 1]) {
+			return searchAscending(arr, target);
+		}
+		return searchDescending(arr, target);
+	} 
+	
+	// Binary search over an array sorted in ascending order
+	static int searchAscending(int[] arr, int target) {
 		int start = 0;
 		int end = arr.length - 1;
 		
-		// Check if the array is in ascending or descending order
-		boolean asc = false;
-		if (arr[start] < arr[end]) {
-			asc = true; // Set asc to true if the array is in ascending order
+		while (start <= end) {
+			// Unsigned shift keeps the middle index correct even when start + end overflows
+			int mid = (start + end) >>> 1;
+			
+			if (target > arr[mid]) {
+				start = mid + 1; // Adjust the start index for the next iteration
+			} else if (target < arr[mid]) {
+				end = mid - 1; // Adjust the end index for the next iteration
+			} else {
+				return mid; // Return the index if the target is found
+			}
 		}
+		return -1; // Return -1 if the target is not found in the array
+	}
+	
+	// Binary search over an array sorted in descending order
+	static int searchDescending(int[] arr, int target) {
+		int start = 0;
+		int end = arr.length - 1;
 		
-		// Perform binary search
 		while (start <= end) {
-			// Calculate the middle index of the current search range
-			int mid = (start + end) / 2;
+			int mid = (start + end) >>> 1;
+			
+			if (target < arr[mid]) {
+				start = mid + 1; // Adjust the start index for the next iteration
+			} else if (target > arr[mid]) {
+				end = mid - 1; // Adjust the end index for the next iteration
+			} else {
+				return mid; // Return the index if the target is found
+			}
+		}
+		return -1; // Return -1 if the target is not found in the array
+	}
+	
+	// Index of the first occurrence of the target, or -1 if it is not in the array
+	// Unlike search, which stops at whichever match it reaches first, this always narrows to the leftmost one
+	public static int searchFirst(int[] arr, int target) {
+		int n = arr.length;
+		if (n == 0) {
+			return -1;
+		}
+		
+		int first = arr[0] > arr[n - 1] ? lowerBoundDescending(arr, target) : lowerBound(arr, target);
+		return first < n && arr[first] == target ? first : -1;
+	}
+	
+	// Index of the first element not greater than the target in a descending array (arr.length if none)
+	static int lowerBoundDescending(int[] arr, int target) {
+		int from = 0;
+		int to = arr.length;
+		while (from < to) {
+			int mid = (from + to) >>> 1;
+			if (arr[mid] > target) {
+				from = mid + 1;
+			} else {
+				to = mid;
+			}
+		}
+		return from;
+	}
+	
+	// Index of the first element not less than the target in an ascending array (arr.length if none)
+	public static int lowerBound(int[] arr, int target) {
+		int n = arr.length;
+		if (n == 0) {
+			return 0;
+		}
+		
+		// The answer always lies in [base, base + n]; halving n without an early exit
+		// keeps the trip count fixed so the comparison compiles to a conditional move
+		int base = 0;
+		while (n > 1) {
+			int half = n >>> 1;
+			base = arr[base + half] < target ? base + half : base;
+			n -= half;
+		}
+		return base + (arr[base] < target ? 1 : 0);
+	}
+	
+	// Index of the first element greater than the target in an ascending array (arr.length if none)
+	public static int upperBound(int[] arr, int target) {
+		int n = arr.length;
+		if (n == 0) {
+			return 0;
+		}
+		
+		int base = 0;
+		while (n > 1) {
+			int half = n >>> 1;
+			base = arr[base + half] <= target ? base + half : base;
+			n -= half;
+		}
+		return base + (arr[base] <= target ? 1 : 0);
+	}
+	
+	// Range [start, end) of elements equal to the target in an ascending array, packed into a long
+	// Use rangeStart and rangeEnd to unpack it; the range is empty when the target is absent
+	public static long equalRange(int[] arr, int target) {
+		return (long) lowerBound(arr, target) << 32 | upperBound(arr, target);
+	}
+	
+	// Start index of a range returned by equalRange
+	public static int rangeStart(long range) {
+		return (int) (range >>> 32);
+	}
+	
+	// End index (exclusive) of a range returned by equalRange
+	public static int rangeEnd(long range) {
+		return (int) range;
+	}
+	
+	// Search many keys against the same sorted array; out[i] gets the index of keys[i] or -1
+	// Every out[i] equals searchFirst(sorted, keys[i]), so duplicates always give the first occurrence
+	public static void searchBatch(int[] sorted, int[] keys, int[] out) {
+		if (out.length < keys.length) {
+			throw new IllegalArgumentException("Output too small: " + out.length + " < " + keys.length);
+		}
+		
+		// Batching relies on the ascending lower bound; descending arrays are searched one key at a time
+		int n = sorted.length;
+		if (n > 0 && sorted[0] > sorted[n - 1]) {
+			for (int i = 0; i < keys.length; i++) {
+				out[i] = searchFirst(sorted, keys[i]);
+			}
+			return;
+		}
+		
+		if (isAscending(keys)) {
+			searchSortedKeys(sorted, keys, out);
+		} else {
+			searchInterleaved(sorted, keys, out);
+		}
+	}
+	
+	// Advance a group of lookups in lockstep so their cache misses overlap instead of queueing
+	static void searchInterleaved(int[] sorted, int[] keys, int[] out) {
+		int n = sorted.length;
+		int[] base = new int[BATCH_WIDTH];
+		
+		for (int g = 0; g < keys.length; g += BATCH_WIDTH) {
+			int width = Math.min(BATCH_WIDTH, keys.length - g);
+			if (n == 0) {
+				Arrays.fill(out, g, g + width, -1);
+				continue;
+			}
 			
-			// Check if the target is greater, lesser, or equal to the middle element
-			if (asc) { // Array is in ascending order
-				if (target > arr[mid]) {
-					start = mid + 1; // Adjust the start index for the next iteration
-				} else if (target < arr[mid]) {
-					end = mid - 1; // Adjust the end index for the next iteration
-				} else {
-					return mid; // Return the index if the target is found
+			// Every lookup in the group shrinks the same window length, so one loop drives them all
+			Arrays.fill(base, 0);
+			int len = n;
+			while (len > 1) {
+				int half = len >>> 1;
+				for (int j = 0; j < width; j++) {
+					int b = base[j];
+					base[j] = sorted[b + half] < keys[g + j] ? b + half : b;
 				}
-			} else { // Array is in descending order
-				if (target < arr[mid]) {
-					start = mid + 1; // Adjust the start index for the next iteration
-				} else if (target > arr[mid]) {
-					end = mid - 1; // Adjust the end index for the next iteration
-				} else {
-					return mid; // Return the index if the target is found
+				len -= half;
+			}
+			
+			for (int j = 0; j < width; j++) {
+				int key = keys[g + j];
+				int b = base[j] + (sorted[base[j]] < key ? 1 : 0);
+				out[g + j] = b < n && sorted[b] == key ? b : -1;
+			}
+		}
+	}
+	
+	// Merge-style pass for ascending keys: each search gallops forward from where the last one ended
+	static void searchSortedKeys(int[] sorted, int[] keys, int[] out) {
+		int n = sorted.length;
+		int pos = 0;
+		
+		for (int i = 0; i < keys.length; i++) {
+			int key = keys[i];
+			
+			// Exponential probe: widen the window until its end is not less than the key
+			int lo = pos;
+			int hi = pos;
+			int step = 1;
+			while (hi < n && sorted[hi] < key) {
+				lo = hi + 1;
+				hi = step < n - lo ? lo + step : n;
+				if (step < n) {
+					step <<= 1;
 				}
 			}
-		} 
-		return -1; // Return -1 if the target is not found in the array
-	} 
+			
+			pos = lowerBound(sorted, lo, hi, key);
+			out[i] = pos < n && sorted[pos] == key ? pos : -1;
+		}
+	}
+	
+	// Index of the first element not less than the target within the ascending range [from, to)
+	static int lowerBound(int[] arr, int from, int to, int target) {
+		while (from < to) {
+			int mid = (from + to) >>> 1;
+			if (arr[mid] < target) {
+				from = mid + 1;
+			} else {
+				to = mid;
+			}
+		}
+		return from;
+	}
+	
+	// Check if the array is in non-decreasing order
+	static boolean isAscending(int[] arr) {
+		for (int i = 1; i < arr.length; i++) {
+			if (arr[i] < arr[i - 1]) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
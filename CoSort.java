@@ -0,0 +1,409 @@
+package sortAlgorithms;
+
+// Key/value co-sorting and argsort for primitive arrays
+// The keys are sorted and every move is mirrored in a parallel payload array, so records can be
+// ordered by key without boxing them or moving the records themselves. The stable sorts follow
+// MergeSort.sort(arr, from, to): insertion-sorted runs of MergeSort.INSERTION_CUTOFF, then
+// bottom-up merge passes. The unstable ones follow QuickSort's Hoare introsort: the pivot comes
+// from QuickSort.choosePivot (median-of-three, ninther from NINTHER_THRESHOLD up), the smaller
+// side is recursed into, and heap sort takes over past the depth limit.
+// Only the pivot choice and the cutoffs can be shared as they are. The engines in MergeSort and
+// QuickSort move a bare int[], while here every move must carry the payload too, and Java
+// generics do not cover primitive arrays, so there is one engine per key type. Ranges of
+// QuickSort.INSERTION_CUTOFF or fewer get paired insertion sort rather than sortSmall, whose
+// sorting networks have no way to move a payload
+public class CoSort {
+
+    // Indices of the keys in stable ascending key order; the keys themselves are left untouched
+    public static int[] argsort(int[] keys) {
+        int[] order = identity(keys.length);
+        sort(keys.clone(), order);
+        return order;
+    }
+
+    // Indices of the keys in ascending key order, equal keys in no particular order
+    public static int[] argsortUnstable(int[] keys) {
+        int[] order = identity(keys.length);
+        sortUnstable(keys.clone(), order);
+        return order;
+    }
+
+    // Indices of the keys in stable ascending key order; the keys themselves are left untouched
+    public static int[] argsort(long[] keys) {
+        int[] order = identity(keys.length);
+        sort(keys.clone(), order);
+        return order;
+    }
+
+    // Indices of the keys in ascending key order, equal keys in no particular order
+    public static int[] argsortUnstable(long[] keys) {
+        int[] order = identity(keys.length);
+        sortUnstable(keys.clone(), order);
+        return order;
+    }
+
+    // The permutation 0, 1, ..., n - 1
+    static int[] identity(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    // Check that the payload array is as long as the keys
+    static void checkLengths(int keyLength, int payloadLength) {
+        if (keyLength != payloadLength)
+            throw new IllegalArgumentException("Keys and payload differ in length: " + keyLength + " != " + payloadLength);
+    }
+
+    // Stable sort of the keys, moving values[i] together with keys[i]
+    public static void sort(int[] keys, int[] values) {
+        checkLengths(keys.length, values.length);
+        int n = keys.length;
+        if (n < 2)
+            return;
+
+        // Sort short runs with insertion sort so the merge passes start from a wider width
+        // Steps are clamped to the remaining length so no index overflows on arrays near 2^31
+        for (int lo = 0; lo < n; ) {
+            int hi = lo + Math.min(MergeSort.INSERTION_CUTOFF, n - lo);
+            insertionSort(keys, values, lo, hi);
+            lo = hi;
+        }
+
+        // Each pass merges pairs of runs from the source arrays into the destination arrays
+        int[] srcKeys = keys, dstKeys = new int[n];
+        int[] srcValues = values, dstValues = new int[n];
+        for (int width = MergeSort.INSERTION_CUTOFF; width < n; width = width < n - width ? width << 1 : n) {
+            for (int lo = 0; lo < n; ) {
+                int mid = lo + Math.min(width, n - lo);
+                int hi = mid + Math.min(width, n - mid);
+                mergeRuns(srcKeys, srcValues, dstKeys, dstValues, lo, mid, hi);
+                lo = hi;
+            }
+
+            int[] tmpKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tmpKeys;
+            int[] tmpValues = srcValues;
+            srcValues = dstValues;
+            dstValues = tmpValues;
+        }
+
+        // If the last pass ended in the buffers, copy the result back
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            System.arraycopy(srcValues, 0, values, 0, n);
+        }
+    }
+
+    // Unstable sort of the keys, moving values[i] together with keys[i]
+    public static void sortUnstable(int[] keys, int[] values) {
+        checkLengths(keys.length, values.length);
+        int n = keys.length;
+        if (n < 2)
+            return;
+
+        // Allow 2 * log2(n) levels of partitioning before falling back to heap sort
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(n));
+        introSort(keys, values, 0, n - 1, depthLimit);
+    }
+
+    // Merge the runs [lo, mid) and [mid, hi) of the source arrays into the destination arrays
+    static void mergeRuns(int[] srcKeys, int[] srcValues, int[] dstKeys, int[] dstValues, int lo, int mid, int hi) {
+        // Runs that are already in order only need to be copied across
+        if (mid == hi || srcKeys[mid - 1] <= srcKeys[mid]) {
+            System.arraycopy(srcKeys, lo, dstKeys, lo, hi - lo);
+            System.arraycopy(srcValues, lo, dstValues, lo, hi - lo);
+            return;
+        }
+
+        // Take from the left run on ties to keep the sort stable
+        int i = lo, j = mid, k = lo;
+        while (i < mid && j < hi) {
+            if (srcKeys[j] < srcKeys[i]) {
+                dstValues[k] = srcValues[j];
+                dstKeys[k++] = srcKeys[j++];
+            } else {
+                dstValues[k] = srcValues[i];
+                dstKeys[k++] = srcKeys[i++];
+            }
+        }
+
+        // Copy whichever run still has elements left
+        System.arraycopy(srcKeys, i, dstKeys, k, mid - i);
+        System.arraycopy(srcValues, i, dstValues, k, mid - i);
+        k += mid - i;
+        System.arraycopy(srcKeys, j, dstKeys, k, hi - j);
+        System.arraycopy(srcValues, j, dstValues, k, hi - j);
+    }
+
+    // Stable insertion sort of the range [from, to), shifting keys and values together
+    static void insertionSort(int[] keys, int[] values, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            int value = values[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    // Introsort engine over the range [low, high], the HOARE case of QuickSort.introSort with paired swaps
+    static void introSort(int[] keys, int[] values, int low, int high, int depthLimit) {
+        while (high - low + 1 > QuickSort.INSERTION_CUTOFF) {
+            if (depthLimit-- == 0) {
+                heapSort(keys, values, low, high);
+                return;
+            }
+
+            int pivot = keys[QuickSort.choosePivot(keys, low, high)];
+            int start = low;
+            int end = high;
+            while (start <= end) {
+                while (keys[start] < pivot) {
+                    start++;
+                }
+                while (keys[end] > pivot) {
+                    end--;
+                }
+                if (start <= end) {
+                    swap(keys, values, start, end);
+                    start++;
+                    end--;
+                }
+            }
+
+            // Recursing only into the smaller side keeps the stack depth at O(log n)
+            if (end - low < high - start) {
+                introSort(keys, values, low, end, depthLimit);
+                low = start;
+            } else {
+                introSort(keys, values, start, high, depthLimit);
+                high = end;
+            }
+        }
+        insertionSort(keys, values, low, high + 1);
+    }
+
+    // Heap sort of the range [low, high], used as the worst-case fallback
+    static void heapSort(int[] keys, int[] values, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(keys, values, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(keys, values, low, low + end);
+            siftDown(keys, values, low, 0, end);
+        }
+    }
+
+    // Sift the pair at heap index i down a max-heap of the given size rooted at base
+    static void siftDown(int[] keys, int[] values, int base, int i, int size) {
+        int key = keys[base + i];
+        int value = values[base + i];
+        int child;
+        while ((child = 2 * i + 1) < size) {
+            if (child + 1 < size && keys[base + child + 1] > keys[base + child])
+                child++;
+            if (keys[base + child] <= key)
+                break;
+            keys[base + i] = keys[base + child];
+            values[base + i] = values[base + child];
+            i = child;
+        }
+        keys[base + i] = key;
+        values[base + i] = value;
+    }
+
+    // Swap two positions in both arrays
+    static void swap(int[] keys, int[] values, int i, int j) {
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    // Stable sort of the keys, moving payload[i] together with keys[i]
+    public static void sort(long[] keys, int[] payload) {
+        checkLengths(keys.length, payload.length);
+        int n = keys.length;
+        if (n < 2)
+            return;
+
+        // Sort short runs with insertion sort so the merge passes start from a wider width
+        // Steps are clamped to the remaining length so no index overflows on arrays near 2^31
+        for (int lo = 0; lo < n; ) {
+            int hi = lo + Math.min(MergeSort.INSERTION_CUTOFF, n - lo);
+            insertionSort(keys, payload, lo, hi);
+            lo = hi;
+        }
+
+        // Each pass merges pairs of runs from the source arrays into the destination arrays
+        long[] srcKeys = keys, dstKeys = new long[n];
+        int[] srcPayload = payload, dstPayload = new int[n];
+        for (int width = MergeSort.INSERTION_CUTOFF; width < n; width = width < n - width ? width << 1 : n) {
+            for (int lo = 0; lo < n; ) {
+                int mid = lo + Math.min(width, n - lo);
+                int hi = mid + Math.min(width, n - mid);
+                mergeRuns(srcKeys, srcPayload, dstKeys, dstPayload, lo, mid, hi);
+                lo = hi;
+            }
+
+            long[] tmpKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tmpKeys;
+            int[] tmpPayload = srcPayload;
+            srcPayload = dstPayload;
+            dstPayload = tmpPayload;
+        }
+
+        // If the last pass ended in the buffers, copy the result back
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            System.arraycopy(srcPayload, 0, payload, 0, n);
+        }
+    }
+
+    // Unstable sort of the keys, moving payload[i] together with keys[i]
+    public static void sortUnstable(long[] keys, int[] payload) {
+        checkLengths(keys.length, payload.length);
+        int n = keys.length;
+        if (n < 2)
+            return;
+
+        // Allow 2 * log2(n) levels of partitioning before falling back to heap sort
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(n));
+        introSort(keys, payload, 0, n - 1, depthLimit);
+    }
+
+    // Merge the runs [lo, mid) and [mid, hi) of the source arrays into the destination arrays
+    static void mergeRuns(long[] srcKeys, int[] srcPayload, long[] dstKeys, int[] dstPayload, int lo, int mid, int hi) {
+        // Runs that are already in order only need to be copied across
+        if (mid == hi || srcKeys[mid - 1] <= srcKeys[mid]) {
+            System.arraycopy(srcKeys, lo, dstKeys, lo, hi - lo);
+            System.arraycopy(srcPayload, lo, dstPayload, lo, hi - lo);
+            return;
+        }
+
+        // Take from the left run on ties to keep the sort stable
+        int i = lo, j = mid, k = lo;
+        while (i < mid && j < hi) {
+            if (srcKeys[j] < srcKeys[i]) {
+                dstPayload[k] = srcPayload[j];
+                dstKeys[k++] = srcKeys[j++];
+            } else {
+                dstPayload[k] = srcPayload[i];
+                dstKeys[k++] = srcKeys[i++];
+            }
+        }
+
+        // Copy whichever run still has elements left
+        System.arraycopy(srcKeys, i, dstKeys, k, mid - i);
+        System.arraycopy(srcPayload, i, dstPayload, k, mid - i);
+        k += mid - i;
+        System.arraycopy(srcKeys, j, dstKeys, k, hi - j);
+        System.arraycopy(srcPayload, j, dstPayload, k, hi - j);
+    }
+
+    // Stable insertion sort of the range [from, to), shifting keys and payload together
+    static void insertionSort(long[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = keys[i];
+            int value = payload[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                payload[j + 1] = payload[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            payload[j + 1] = value;
+        }
+    }
+
+    // Introsort engine over the range [low, high], the HOARE case of QuickSort.introSort with paired swaps
+    static void introSort(long[] keys, int[] payload, int low, int high, int depthLimit) {
+        while (high - low + 1 > QuickSort.INSERTION_CUTOFF) {
+            if (depthLimit-- == 0) {
+                heapSort(keys, payload, low, high);
+                return;
+            }
+
+            long pivot = keys[QuickSort.choosePivot(keys, low, high)];
+            int start = low;
+            int end = high;
+            while (start <= end) {
+                while (keys[start] < pivot) {
+                    start++;
+                }
+                while (keys[end] > pivot) {
+                    end--;
+                }
+                if (start <= end) {
+                    swap(keys, payload, start, end);
+                    start++;
+                    end--;
+                }
+            }
+
+            // Recursing only into the smaller side keeps the stack depth at O(log n)
+            if (end - low < high - start) {
+                introSort(keys, payload, low, end, depthLimit);
+                low = start;
+            } else {
+                introSort(keys, payload, start, high, depthLimit);
+                high = end;
+            }
+        }
+        insertionSort(keys, payload, low, high + 1);
+    }
+
+    // Heap sort of the range [low, high], used as the worst-case fallback
+    static void heapSort(long[] keys, int[] payload, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(keys, payload, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(keys, payload, low, low + end);
+            siftDown(keys, payload, low, 0, end);
+        }
+    }
+
+    // Sift the pair at heap index i down a max-heap of the given size rooted at base
+    static void siftDown(long[] keys, int[] payload, int base, int i, int size) {
+        long key = keys[base + i];
+        int value = payload[base + i];
+        int child;
+        while ((child = 2 * i + 1) < size) {
+            if (child + 1 < size && keys[base + child + 1] > keys[base + child])
+                child++;
+            if (keys[base + child] <= key)
+                break;
+            keys[base + i] = keys[base + child];
+            payload[base + i] = payload[base + child];
+            i = child;
+        }
+        keys[base + i] = key;
+        payload[base + i] = value;
+    }
+
+    // Swap two positions in both arrays
+    static void swap(long[] keys, int[] payload, int i, int j) {
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int value = payload[i];
+        payload[i] = payload[j];
+        payload[j] = value;
+    }
+}
@@ -0,0 +1,119 @@
+package com.DSA;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Non-blocking generic queue using a Linked List (Michael-Scott algorithm)
+// front always points at a dummy node whose successor holds the first element. Producers link
+// new nodes with a CAS on rear.next and consumers advance front with a CAS, so any number of
+// threads can enqueue and poll without a lock. A thread that finds rear lagging behind swings
+// it forward before retrying, which keeps the queue moving even if another thread stalls
+public class ConcurrentQueueUsingLL<T> {
+
+    // Node class representing individual elements in the queue
+    static final class Node<T> {
+        T data; // Published to other threads by the CAS that links the node
+        volatile Node<T> next;
+
+        Node(T val) {
+            data = val;
+        }
+    }
+
+    static final VarHandle FRONT;
+    static final VarHandle REAR;
+    static final VarHandle NEXT;
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            FRONT = lookup.findVarHandle(ConcurrentQueueUsingLL.class, "front", Node.class);
+            REAR = lookup.findVarHandle(ConcurrentQueueUsingLL.class, "rear", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    volatile Node<T> front; // Dummy node before the first element
+    volatile Node<T> rear; // Last node, or a node shortly before it while an enqueue is finishing
+
+    // Constructor to initialize an empty queue
+    public ConcurrentQueueUsingLL() {
+        Node<T> dummy = new Node<>(null);
+        front = dummy;
+        rear = dummy;
+    }
+
+    // Method to add a new element to the end of the queue; null is reserved to signal an empty poll
+    public void enqueue(T val) {
+        if (val == null)
+            throw new NullPointerException("Queue does not accept null elements");
+
+        Node<T> newNode = new Node<>(val);
+        for (;;) {
+            Node<T> last = rear;
+            Node<T> next = last.next;
+            if (last != rear)
+                continue; // rear moved while we were reading it
+
+            if (next == null) {
+                // rear is really the last node: try to link the new node after it
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    // Swing rear to the new node; if this fails another thread already helped
+                    REAR.compareAndSet(this, last, newNode);
+                    return;
+                }
+            } else {
+                // rear is lagging behind an enqueue in progress: help it forward
+                REAR.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    // Method to remove and return the front element from the queue, or null if it is empty
+    public T poll() {
+        for (;;) {
+            Node<T> first = front;
+            Node<T> last = rear;
+            Node<T> next = first.next;
+            if (first != front)
+                continue; // front moved while we were reading it
+
+            if (first == last) {
+                if (next == null)
+                    return null; // Queue is empty
+
+                // An enqueue linked a node but has not swung rear yet: help it forward
+                REAR.compareAndSet(this, last, next);
+            } else {
+                // Read the value before the CAS; afterwards another poller may clear it
+                T val = next.data;
+                if (FRONT.compareAndSet(this, first, next)) {
+                    // next is the new dummy; drop its reference to the returned element
+                    next.data = null;
+                    return val;
+                }
+            }
+        }
+    }
+
+    // Method to return the front element without removing it, or null if the queue is empty
+    public T peek() {
+        for (;;) {
+            Node<T> first = front;
+            Node<T> next = first.next;
+            if (next == null)
+                return null;
+
+            T val = next.data;
+            // Only trust the value if no poll removed or cleared it while we were reading
+            if (val != null && first == front)
+                return val;
+        }
+    }
+
+    // Method to check if the queue is empty at the moment of the call
+    public boolean isEmpty() {
+        return front.next == null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.DSA;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Lock-free generic stack (Treiber stack) with an elimination-backoff array
+// push and pop swing top with a single CAS. When that CAS fails because of contention, the
+// thread backs off into a small array of exchange slots where a push and a pop can meet and
+// hand the element over directly, without touching top at all.
+// Every push allocates a fresh node and nodes are never reused, so a CAS can never succeed
+// against a node that was popped and pushed back in the meantime: the garbage collector keeps
+// a node alive for as long as any thread still holds it, which rules out the ABA problem.
+// null elements are rejected, since poll and peek return null to signal an empty stack
+public class ConcurrentStackUsingLL<T> {
+    // Node class to represent elements in the linked list
+    static final class Node<T> {
+        final T data;
+        Node<T> next; // Published by the CAS that makes the node the new top
+
+        Node(T val) {
+            data = val;
+        }
+    }
+
+    // Number of exchange slots, enough for the pairs of threads that can collide at once
+    static final int ELIMINATION_SLOTS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    // How long a push waits in an exchange slot for a pop to take its node
+    static final int ELIMINATION_SPINS = 128;
+
+    static final VarHandle TOP;
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(ConcurrentStackUsingLL.class, "top", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Top node of the stack
+    volatile Node<T> top;
+
+    // Exchange slots: a waiting push parks its node here until a pop takes it or it withdraws
+    final AtomicReferenceArray<Node<T>> eliminationArray = new AtomicReferenceArray<>(ELIMINATION_SLOTS);
+
+    // Constructor for initializing an empty stack
+    public ConcurrentStackUsingLL() {
+        top = null;
+    }
+
+    // Push operation to add a new element to the stack; null is reserved to signal an empty poll
+    public void push(T val) {
+        Objects.requireNonNull(val, "Stack does not accept null elements");
+        Node<T> newNode = new Node<>(val);
+        for (;;) {
+            Node<T> current = top;
+            newNode.next = current;
+            if (TOP.compareAndSet(this, current, newNode))
+                return;
+
+            // Lost the race for top: try to pair up with a concurrent pop instead
+            if (eliminatePush(newNode))
+                return;
+        }
+    }
+
+    // Pop operation to remove and return the top element from the stack
+    public T pop() {
+        Node<T> node = popNode();
+        if (node == null)
+            throw new IndexOutOfBoundsException("Stack is Empty");
+        return node.data;
+    }
+
+    // Pop operation that returns null instead of throwing when the stack is empty
+    public T poll() {
+        Node<T> node = popNode();
+        return node == null ? null : node.data;
+    }
+
+    // Peek operation to get the value of the top element without removing it, or null if empty
+    public T peek() {
+        Node<T> current = top;
+        return current == null ? null : current.data;
+    }
+
+    // Check if the stack is empty at the moment of the call
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    // Remove the top node, from the stack itself or from a push waiting in the elimination array
+    Node<T> popNode() {
+        for (;;) {
+            Node<T> current = top;
+            if (current == null)
+                return null;
+            if (TOP.compareAndSet(this, current, current.next))
+                return current;
+
+            // Lost the race for top: try to take a node straight from a waiting push
+            Node<T> other = eliminatePop();
+            if (other != null)
+                return other;
+        }
+    }
+
+    // Offer the node in a random exchange slot; returns true if a pop took it
+    boolean eliminatePush(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS);
+        if (!eliminationArray.compareAndSet(slot, null, node))
+            return false; // Slot busy; go back to the stack
+
+        for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+            if (eliminationArray.get(slot) != node)
+                return true; // A pop took the node
+            Thread.onSpinWait();
+        }
+
+        // Nobody came: withdraw the offer. If that fails, a pop took it at the last moment
+        return !eliminationArray.compareAndSet(slot, node, null);
+    }
+
+    // Take a node offered by a waiting push from a random exchange slot, or return null
+    Node<T> eliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS);
+        Node<T> node = eliminationArray.get(slot);
+        if (node != null && eliminationArray.compareAndSet(slot, node, null))
+            return node;
+        return null;
+    }
+}
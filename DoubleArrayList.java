@@ -0,0 +1,144 @@
+package com.dataStructures;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// Growable list of primitive doubles with the same operations and growth rules as IntArrayList,
+// which documents each method; this copy only changes the element type so double values are never boxed
+public class DoubleArrayList {
+    static final int DEFAULT_CAPACITY = 16;
+
+    double[] arr;
+    int size;
+    final GrowthPolicy growthPolicy;
+
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.DOUBLING);
+    }
+
+    public DoubleArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    public DoubleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        arr = new double[initialCapacity];
+        size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return arr.length;
+    }
+
+    public double get(int pos) {
+        checkIndex(pos);
+        return arr[pos];
+    }
+
+    public double set(int pos, double val) {
+        checkIndex(pos);
+        double old = arr[pos];
+        arr[pos] = val;
+        return old;
+    }
+
+    public void add(double val) {
+        if (size == arr.length)
+            grow(size + 1);
+        arr[size++] = val;
+    }
+
+    public void addAtSpecPos(int pos, double val) {
+        checkPosition(pos);
+        if (size == arr.length)
+            grow(size + 1);
+        System.arraycopy(arr, pos, arr, pos + 1, size - pos);
+        arr[pos] = val;
+        size++;
+    }
+
+    public double deleteAtSpecPos(int pos) {
+        checkIndex(pos);
+        double old = arr[pos];
+        System.arraycopy(arr, pos + 1, arr, pos, size - pos - 1);
+        size--;
+        return old;
+    }
+
+    public void addAll(double[] src) {
+        addAll(src, 0, src.length);
+    }
+
+    public void addAll(double[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len > arr.length - size)
+            grow(size + len);
+        System.arraycopy(src, off, arr, size, len);
+        size += len;
+    }
+
+    public void insertAll(int pos, double[] src, int off, int len) {
+        checkPosition(pos);
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len > arr.length - size)
+            grow(size + len);
+        System.arraycopy(arr, pos, arr, pos + len, size - pos);
+        System.arraycopy(src, off, arr, pos, len);
+        size += len;
+    }
+
+    public void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        System.arraycopy(arr, to, arr, from, size - to);
+        size -= to - from;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > arr.length)
+            grow(minCapacity);
+    }
+
+    public void trimToSize() {
+        if (size < arr.length)
+            arr = Arrays.copyOf(arr, size);
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(arr, size);
+    }
+
+    public void display() {
+        for (int i = 0; i < size; i++) {
+            System.out.print(arr[i] + " ");
+        }
+        System.out.println();
+    }
+
+    void grow(int minCapacity) {
+        arr = Arrays.copyOf(arr, GrowthPolicy.newCapacity(growthPolicy, arr.length, minCapacity));
+    }
+
+    void checkIndex(int pos) {
+        if (pos < 0 || pos >= size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+    }
+
+    void checkPosition(int pos) {
+        if (pos < 0 || pos > size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+    }
+}
@@ -1,3 +1,5 @@
+import java.util.HashMap;
+import java.util.Objects;
 
 public class DoublyLinkedList<T> {
     // Node class represents individual elements of the doubly linked list
@@ -5,6 +7,10 @@ public class DoublyLinkedList<T> {
         T data;
         Node next;
         Node prev;
+        // Chain of the nodes holding an equal value, in list order, kept only while the value
+        // index is enabled. The first node of a chain points back to the last one through prevEq
+        Node nextEq;
+        Node prevEq;
 
         // Constructor to initialize a node with data
         Node(T val) {
@@ -18,6 +24,10 @@ public class DoublyLinkedList<T> {
     Node head;
     Node tail;
 
+    // Optional value index: maps each value to the first node holding it, and the nodes holding
+    // equal values are chained through nextEq/prevEq. Null while the index is disabled
+    HashMap<T, Node> valueIndex;
+
     // Constructor to initialize an empty doubly linked list
     public DoublyLinkedList() {
         head = null;
@@ -37,6 +47,7 @@ public class DoublyLinkedList<T> {
         }
         
         head = newNode;
+        indexPrepend(newNode);
     }
 
     // Display the elements of the list from head to tail
@@ -86,8 +97,9 @@ public class DoublyLinkedList<T> {
             tail = newNode;
         } else {
             temp.next.prev = newNode;
-            temp.next = newNode;
         }
+        temp.next = newNode;
+        indexAdd(newNode);
     }
 
     // Delete a node at the specified position
@@ -97,6 +109,7 @@ public class DoublyLinkedList<T> {
 
         // If position is 0, delete from the beginning
         if (pos == 0) {
+            indexRemove(head);
             head = head.next;
 
             // Update tail if the list becomes empty
@@ -120,6 +133,7 @@ public class DoublyLinkedList<T> {
         }
 
         prev.next = temp.next;
+        indexRemove(temp);
 
         // Update tail if the deleted node is the last node
         if (temp.next == null) {
@@ -150,17 +164,15 @@ public class DoublyLinkedList<T> {
     public void update(int pos, T val) {
         Node temp = head;
 
-        // If position is 0, update the value of the head
-        if (pos == 0) {
-            head.data = val;
-        }
-
         // Traverse to the specified position
         for (int i = 1; i <= pos; i++) {
             temp = temp.next;
         }
 
+        // Re-file the node under its new value
+        indexRemove(temp);
         temp.data = val;
+        indexAdd(temp);
     }
 
     // Placeholder method for deleting the node at the end
@@ -171,6 +183,8 @@ public class DoublyLinkedList<T> {
             return;
         }
 
+        indexRemove(tail);
+
         // If there is only one node in the list, set both head and tail to null
         if (head == tail) {
             head = null;
@@ -188,6 +202,8 @@ public class DoublyLinkedList<T> {
         // Create a new node with the given value
         Node newNode = new Node(val);
 
+        indexAppend(newNode);
+
         // Check if the list is empty
         if (head == null) {
             head = newNode;
@@ -205,20 +221,26 @@ public class DoublyLinkedList<T> {
 
     // Search for the index of a specific value in the list
     public int search(T val) {
-        Node temp = head;
-        int index = 0;
-
-        // Check if the value is at the head
-        if (head.data == val) {
-            return 0;
+        // With the index enabled the node is found in O(1), but turning it into a position still
+        // takes a walk from the head; only the equals calls are saved
+        if (valueIndex != null) {
+            Node node = valueIndex.get(val);
+            if (node == null) {
+                return -1;
+            }
+            int index = 0;
+            for (Node temp = head; temp != node; temp = temp.next) {
+                index++;
+            }
+            return index;
         }
 
         // Traverse the list to find the value
+        Node temp = head;
+        int index = 0;
         while (temp != null) {
-            T currentVal = temp.data;
-
-            // Compare using .equals() for generic types
-            if (currentVal.equals(val)) {
+            // Compare using Objects.equals() so values are matched by content, nulls included
+            if (Objects.equals(temp.data, val)) {
                 return index;
             }
 
@@ -230,28 +252,154 @@ public class DoublyLinkedList<T> {
         return -1;
     }
 
-    // Check if the list contains a specific value
+    // Check if the list contains a specific value; O(1) with the value index enabled
     public boolean contains(T val) {
-        Node temp = head;
+        if (valueIndex != null) {
+            return valueIndex.containsKey(val);
+        }
+        return findNode(val) != null;
+    }
 
-        // Check if the value is at the head
-        if (head.data == val) {
-            return true;
+    // Remove the first node holding the given value, returning whether one was found
+    // O(1) with the value index enabled, a walk from the head otherwise
+    public boolean removeValue(T val) {
+        Node node = valueIndex != null ? valueIndex.get(val) : findNode(val);
+        if (node == null) {
+            return false;
         }
+        unlink(node);
+        return true;
+    }
 
-        // Traverse the list to find the value
-        while (temp != null) {
-            T currentVal = temp.data;
+    // Build the value index over the current contents; later changes keep it in sync
+    public void enableValueIndex() {
+        if (valueIndex != null) {
+            return;
+        }
+        valueIndex = new HashMap<>();
+        for (Node temp = head; temp != null; temp = temp.next) {
+            indexAppend(temp);
+        }
+    }
 
-            // Compare using .equals() for generic types
-            if (currentVal.equals(val)) {
-                return true;
-            }
+    // Drop the value index and the equal-value links it kept on the nodes
+    public void disableValueIndex() {
+        valueIndex = null;
+        for (Node temp = head; temp != null; temp = temp.next) {
+            temp.nextEq = null;
+            temp.prevEq = null;
+        }
+    }
 
+    // Find the first node holding the given value by walking from the head
+    Node findNode(T val) {
+        Node temp = head;
+        while (temp != null && !Objects.equals(temp.data, val)) {
             temp = temp.next;
         }
+        return temp;
+    }
 
-        // Value not found
-        return false;
+    // Remove a node from the list, wherever it is
+    void unlink(Node node) {
+        indexRemove(node);
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.next = null;
+        node.prev = null;
+    }
+
+    // Record a node that has just been added to the list, or given a new value, in the value index
+    // The nearest equal node before it in the list is where it joins the chain; the walk back is
+    // no longer than the walk that reached the node's position
+    void indexAdd(Node node) {
+        if (valueIndex == null) {
+            return;
+        }
+        Node prevEqual = node.prev;
+        while (prevEqual != null && !Objects.equals(prevEqual.data, node.data)) {
+            prevEqual = prevEqual.prev;
+        }
+        if (prevEqual == null) {
+            indexPrepend(node);
+            return;
+        }
+
+        node.prevEq = prevEqual;
+        node.nextEq = prevEqual.nextEq;
+        prevEqual.nextEq = node;
+        if (node.nextEq != null) {
+            node.nextEq.prevEq = node;
+        } else {
+            valueIndex.get(node.data).prevEq = node;
+        }
+    }
+
+    // Record a node that has just become the first one holding its value in the value index
+    void indexPrepend(Node node) {
+        if (valueIndex == null) {
+            return;
+        }
+        Node first = valueIndex.put(node.data, node);
+        if (first == null) {
+            node.prevEq = node;
+            node.nextEq = null;
+        } else {
+            node.prevEq = first.prevEq;
+            node.nextEq = first;
+            first.prevEq = node;
+        }
+    }
+
+    // Record a node that has just become the last one holding its value in the value index
+    void indexAppend(Node node) {
+        if (valueIndex == null) {
+            return;
+        }
+        Node first = valueIndex.putIfAbsent(node.data, node);
+        node.nextEq = null;
+        if (first == null) {
+            node.prevEq = node;
+        } else {
+            Node last = first.prevEq;
+            last.nextEq = node;
+            node.prevEq = last;
+            first.prevEq = node;
+        }
+    }
+
+    // Remove a node that is about to leave the list, or change value, from the value index
+    void indexRemove(Node node) {
+        if (valueIndex == null) {
+            return;
+        }
+        Node prevEqual = node.prevEq;
+        Node nextEqual = node.nextEq;
+        if (prevEqual.nextEq != node) {
+            // The node heads its chain, and prevEq is the last node of the chain
+            if (nextEqual == null) {
+                valueIndex.remove(node.data);
+            } else {
+                nextEqual.prevEq = prevEqual;
+                valueIndex.put(node.data, nextEqual);
+            }
+        } else {
+            prevEqual.nextEq = nextEqual;
+            if (nextEqual != null) {
+                nextEqual.prevEq = prevEqual;
+            } else {
+                valueIndex.get(node.data).prevEq = prevEqual;
+            }
+        }
+        node.nextEq = null;
+        node.prevEq = null;
     }
 }
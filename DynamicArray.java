@@ -39,20 +39,26 @@ class DynamicArray {
 
     // Method to add a value at a specific position in the dynamic array
     public void addAtSpecPos(int pos, int val) {
-        // Shift elements to the right to make space for the new element
-        for (int i = size - 1; i >= pos; i--) {
-            arr[i + 1] = arr[i];
-        }
+        if (pos < 0 || pos > size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+
+        // Shift elements to the right in one block move to make space for the new element
+        System.arraycopy(arr, pos, arr, pos + 1, size - pos);
         arr[pos] = val;
         size++; // Increment the size after adding the element
+        // Check if the array is full, expand it if necessary
+        if (size == capacity) {
+            expandArray();
+        }
     }
 
     // Method to delete a value at a specific position in the dynamic array
     public void deleteAtSpecPos(int pos) {
-        // Shift elements to the left to fill the gap created by deleting the element
-        for (int i = pos + 1; i < size; i++) {
-            arr[i - 1] = arr[i];
-        }
+        if (pos < 0 || pos >= size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+
+        // Shift elements to the left in one block move to fill the gap created by deleting the element
+        System.arraycopy(arr, pos + 1, arr, pos, size - pos - 1);
         size--; // Decrement the size after deleting the element
     }
 }
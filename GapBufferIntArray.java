@@ -0,0 +1,109 @@
+package com.dataStructures;
+
+// Dynamic int array for positional edits that cluster around a moving cursor
+// The free capacity is kept as a gap inside the array, positioned at the last edit.
+// Inserting or deleting at the gap is O(1); moving it costs only the distance moved,
+// and random access stays a single array read
+public class GapBufferIntArray {
+    final static int initialCapacity = 16;
+    int arr[];
+    int gapStart; // First free slot
+    int gapEnd; // First used slot after the gap
+
+    public GapBufferIntArray() {
+        arr = new int[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+    }
+
+    // Number of elements in the array
+    public int size() {
+        return arr.length - (gapEnd - gapStart);
+    }
+
+    // Get the value at a specific position
+    public int get(int pos) {
+        checkIndex(pos);
+        return arr[physical(pos)];
+    }
+
+    // Replace the value at a specific position
+    public void set(int pos, int val) {
+        checkIndex(pos);
+        arr[physical(pos)] = val;
+    }
+
+    // Method to add a value to the end of the array
+    public void add(int val) {
+        addAtSpecPos(size(), val);
+    }
+
+    // Method to add a value at a specific position in the array
+    public void addAtSpecPos(int pos, int val) {
+        if (pos < 0 || pos > size())
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size());
+
+        moveGap(pos);
+        if (gapStart == gapEnd)
+            expandArray();
+        arr[gapStart++] = val;
+    }
+
+    // Method to delete a value at a specific position in the array
+    public void deleteAtSpecPos(int pos) {
+        checkIndex(pos);
+
+        // With the gap right before pos, deleting just widens the gap
+        moveGap(pos);
+        gapEnd++;
+    }
+
+    // Method to display the elements of the array
+    public void display() {
+        for (int i = 0; i < gapStart; i++) {
+            System.out.print(arr[i] + " ");
+        }
+        for (int i = gapEnd; i < arr.length; i++) {
+            System.out.print(arr[i] + " ");
+        }
+        System.out.println();
+    }
+
+    // Map a logical position to its index in the backing array
+    int physical(int pos) {
+        return pos < gapStart ? pos : pos + (gapEnd - gapStart);
+    }
+
+    // Move the gap so that it starts at the given logical position
+    void moveGap(int pos) {
+        if (pos < gapStart) {
+            // Slide the elements between pos and the gap to the far side of the gap
+            int count = gapStart - pos;
+            System.arraycopy(arr, pos, arr, gapEnd - count, count);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (pos > gapStart) {
+            // Slide the elements after the gap back to its near side
+            int count = pos - gapStart;
+            System.arraycopy(arr, gapEnd, arr, gapStart, count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    // Method to expand the array by doubling its capacity, keeping the gap where it is
+    void expandArray() {
+        int[] bigger = new int[arr.length * 2];
+        int tail = arr.length - gapEnd;
+        System.arraycopy(arr, 0, bigger, 0, gapStart);
+        System.arraycopy(arr, gapEnd, bigger, bigger.length - tail, tail);
+        gapEnd = bigger.length - tail;
+        arr = bigger;
+    }
+
+    // Check that pos refers to an existing element
+    void checkIndex(int pos) {
+        if (pos < 0 || pos >= size())
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.dataStructures;
+
+// Decides how large the backing array of a primitive list becomes when it runs out of room
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    // Largest array size the JVM reliably allows
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    // Double the capacity on every expansion, the same policy as DynamicArray
+    GrowthPolicy DOUBLING = factor(2.0);
+
+    // Grow by half of the current capacity, trading more copies for less slack
+    GrowthPolicy ONE_AND_A_HALF = factor(1.5);
+
+    // Return the new capacity given the current one; values below minCapacity are raised to it
+    int grow(int currentCapacity, int minCapacity);
+
+    // Multiply the capacity by the given factor on every expansion
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0))
+            throw new IllegalArgumentException("Growth factor must be greater than 1: " + factor);
+        return (currentCapacity, minCapacity) -> (int) Math.min(MAX_CAPACITY, (long) (currentCapacity * factor) + 1);
+    }
+
+    // Add a fixed number of slots on every expansion
+    static GrowthPolicy increment(int step) {
+        if (step <= 0)
+            throw new IllegalArgumentException("Growth step must be positive: " + step);
+        return (currentCapacity, minCapacity) -> (int) Math.min(MAX_CAPACITY, (long) currentCapacity + step);
+    }
+
+    // Capacity to allocate so that minCapacity elements fit, applying the policy and clamping to the limits
+    static int newCapacity(GrowthPolicy policy, int currentCapacity, int minCapacity) {
+        // A negative minimum means the requested size overflowed an int
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY)
+            throw new OutOfMemoryError("Required capacity too large: " + Integer.toUnsignedString(minCapacity));
+        return Math.max(minCapacity, Math.min(MAX_CAPACITY, policy.grow(currentCapacity, minCapacity)));
+    }
+}
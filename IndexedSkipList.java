@@ -0,0 +1,266 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Indexable skip list with the same positional interface as LinkedList
+// Level 0 is an ordinary singly linked list in list order, so iterating costs the same as in
+// LinkedList. Each higher level links a random subset of the nodes below it and records in
+// span how many level-0 steps every link skips, which lets get, update, insertAtPos and
+// deleteAtpos reach any position in O(log n) expected time instead of walking from the head
+public class IndexedSkipList<T> implements Iterable<T> {
+
+    // With one node in four promoted per level, 16 levels cover 4^16 elements, more than an int can count
+    static final int MAX_LEVEL = 16;
+
+    // A node reaches the next level up with probability 1/4
+    static final int LEVEL_BITS = 2;
+
+    Node head; // Sentinel before the first element, present on every level
+    int level; // Number of levels currently in use
+    int size;
+
+    // Node class to represent each element in the skip list
+    class Node {
+        T data;
+        Node next; // Following node on level 0, a plain field so iteration is a single load per step
+        Node[] higher; // higher[l - 1] is the following node on level l >= 1
+        int[] span; // span[l] is the number of positions from this node to the following node on level l
+
+        // Constructor to initialize a node with a value and a given number of levels
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node(T val, int levels) {
+            data = val;
+            next = null;
+            higher = (Node[]) new IndexedSkipList.Node[levels - 1];
+            span = new int[levels];
+        }
+
+        // Following node on level l
+        Node forward(int l) {
+            return l == 0 ? next : higher[l - 1];
+        }
+
+        // Link the following node on level l
+        void setForward(int l, Node node) {
+            if (l == 0)
+                next = node;
+            else
+                higher[l - 1] = node;
+        }
+    }
+
+    // Constructor to initialize an empty skip list
+    public IndexedSkipList() {
+        head = new Node(null, MAX_LEVEL);
+        level = 1;
+        size = 0;
+        // The head sits at rank 0 and the end of the list at rank size + 1
+        head.span[0] = 1;
+    }
+
+    // Number of elements in the skip list
+    public int size() {
+        return size;
+    }
+
+    // Add a new node with a given value at the beginning of the list
+    public void addAtBeginning(T val) {
+        insertAtPos(0, val);
+    }
+
+    // Add a new node with a given value at the end of the list
+    public void add(T val) {
+        insertAtPos(size, val);
+    }
+
+    // Display the elements of the skip list
+    public void display() {
+        Node temp = head.next;
+        while (temp != null) {
+            System.out.print(temp.data + " ");
+            temp = temp.next;
+        }
+    }
+
+    // Insert a new node with a given value at a specified position
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void insertAtPos(int pos, T val) {
+        if (pos < 0 || pos > size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+
+        // On every level, find the last node before the new position and remember its rank
+        Node[] update = (Node[]) new IndexedSkipList.Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        int r = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.forward(l) != null && r + x.span[l] <= pos) {
+                r += x.span[l];
+                x = x.forward(l);
+            }
+            update[l] = x;
+            rank[l] = r;
+        }
+
+        // New levels start out as a single link from the head to the end of the list
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int l = level; l < newLevel; l++) {
+                update[l] = head;
+                rank[l] = 0;
+                head.span[l] = size + 1;
+            }
+            level = newLevel;
+        }
+
+        // Splice the node in on its own levels, splitting the span of the link it lands in
+        Node newNode = new Node(val, newLevel);
+        for (int l = 0; l < newLevel; l++) {
+            newNode.setForward(l, update[l].forward(l));
+            update[l].setForward(l, newNode);
+            newNode.span[l] = update[l].span[l] - (pos - rank[l]);
+            update[l].span[l] = pos - rank[l] + 1;
+        }
+
+        // Links on the levels above it now skip one more position
+        for (int l = newLevel; l < level; l++) {
+            update[l].span[l]++;
+        }
+        size++;
+    }
+
+    // Delete a node at a specified position
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void deleteAtpos(int pos) {
+        checkIndex(pos);
+
+        Node[] update = (Node[]) new IndexedSkipList.Node[MAX_LEVEL];
+        Node x = head;
+        int r = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.forward(l) != null && r + x.span[l] <= pos) {
+                r += x.span[l];
+                x = x.forward(l);
+            }
+            update[l] = x;
+        }
+
+        // Unlink the node where it appears and shorten the links that jump over it
+        Node target = update[0].next;
+        for (int l = 0; l < level; l++) {
+            if (update[l].forward(l) == target) {
+                update[l].span[l] += target.span[l] - 1;
+                update[l].setForward(l, target.forward(l));
+            } else {
+                update[l].span[l]--;
+            }
+        }
+
+        // Drop levels that no longer link any node
+        while (level > 1 && head.forward(level - 1) == null) {
+            level--;
+        }
+        size--;
+    }
+
+    // Get the value at a specified position
+    public T get(int pos) {
+        return nodeAt(pos).data;
+    }
+
+    // Update the value at a specified position
+    public void update(int pos, T val) {
+        nodeAt(pos).data = val;
+    }
+
+    // Search for the index of a given value in the skip list
+    public int search(T val) {
+        Node temp = head.next;
+        int index = 0;
+        while (temp != null) {
+            if (Objects.equals(temp.data, val)) {
+                return index;
+            }
+            temp = temp.next;
+            index++;
+        }
+        return -1;
+    }
+
+    // Check if a given value is present in the skip list
+    public boolean contains(T val) {
+        return search(val) != -1;
+    }
+
+    // Iterator implementation to iterate over the elements of the skip list
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            Node temp = head.next;
+
+            @Override
+            public boolean hasNext() {
+                return temp != null;
+            }
+
+            @Override
+            public T next() {
+                if (temp == null)
+                    throw new NoSuchElementException();
+                T val = temp.data;
+                temp = temp.next;
+                return val;
+            }
+        };
+    }
+
+    // Reverse the skip list
+    // The index only depends on positions, so the nodes stay where they are and the values are
+    // written back in reverse order
+    @SuppressWarnings("unchecked")
+    public void reverseLinkedList() {
+        Object[] values = new Object[size];
+        Node temp = head.next;
+        for (int i = size - 1; i >= 0; i--) {
+            values[i] = temp.data;
+            temp = temp.next;
+        }
+        temp = head.next;
+        for (int i = 0; i < size; i++) {
+            temp.data = (T) values[i];
+            temp = temp.next;
+        }
+    }
+
+    // Walk down from the top level to the node at a specified position
+    Node nodeAt(int pos) {
+        checkIndex(pos);
+
+        // The head has rank 0, so the node at pos has rank pos + 1
+        Node x = head;
+        int r = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.forward(l) != null && r + x.span[l] <= pos + 1) {
+                r += x.span[l];
+                x = x.forward(l);
+            }
+            if (r == pos + 1)
+                return x;
+        }
+        return x;
+    }
+
+    // Random level for a new node, geometrically distributed
+    static int randomLevel() {
+        // Each pair of trailing zero bits promotes the node one level; the fixed bit caps it at MAX_LEVEL
+        int bits = ThreadLocalRandom.current().nextInt() | (1 << (LEVEL_BITS * (MAX_LEVEL - 1)));
+        return 1 + Integer.numberOfTrailingZeros(bits) / LEVEL_BITS;
+    }
+
+    // Check that pos refers to an existing element
+    void checkIndex(int pos) {
+        if (pos < 0 || pos >= size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+    }
+}
@@ -1,7 +1,15 @@
 package sortAlgorithms;
 
+import java.util.Arrays;
+
 public class InsertionSort {
 
+    // Largest range handled by a sorting network
+    static final int MAX_NETWORK_SIZE = 16;
+
+    // NETWORKS[n] lists the compare-exchange pairs (i, j), i < j, that sort n elements
+    static final int[][] NETWORKS = buildNetworks();
+
     // Method to perform insertion sort on an array
     public static void sort(int[] arr) {
         // Outer loop starts from the second element of the array
@@ -22,4 +30,130 @@ public class InsertionSort {
             }
         }
     }
+
+    // Method to perform insertion sort on the range [from, to) of an array
+    public static void sort(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int current = arr[i];
+            int j = i - 1;
+            // Shift larger elements one step right instead of swapping pairwise
+            while (j >= from && arr[j] > current) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            // Drop the current element into the hole left by the shifting
+            arr[j + 1] = current;
+        }
+    }
+
+    // Binary insertion sort of the range [from, to) whose prefix [from, start) is already sorted
+    public static void binarySort(int[] arr, int from, int to, int start) {
+        if (start == from)
+            start++;
+        for (; start < to; start++) {
+            int current = arr[start];
+
+            // Find the insertion point after any equal elements, which keeps the sort stable
+            int left = from;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (current < arr[mid])
+                    right = mid;
+                else
+                    left = mid + 1;
+            }
+
+            // Shift the larger elements right in one block move and drop the current element in
+            System.arraycopy(arr, left, arr, left + 1, start - left);
+            arr[left] = current;
+        }
+    }
+
+    // Small-array dispatcher: sorting networks up to 16 elements, shifting insertion sort above
+    public static void sortSmall(int[] arr, int from, int to) {
+        int n = to - from;
+        switch (n) {
+            case 0:
+            case 1:
+                return;
+            case 2:
+                sort2(arr, from);
+                return;
+            case 3:
+                sort3(arr, from);
+                return;
+            case 4:
+                sort4(arr, from);
+                return;
+            default:
+                if (n <= MAX_NETWORK_SIZE)
+                    sortNetwork(arr, from, n);
+                else
+                    sort(arr, from, to);
+        }
+    }
+
+    // Compare-exchange without branching: the smaller value ends up at i, the larger at j
+    static void compareExchange(int[] arr, int i, int j) {
+        int a = arr[i];
+        int b = arr[j];
+        arr[i] = Math.min(a, b);
+        arr[j] = Math.max(a, b);
+    }
+
+    // Optimal networks for the three smallest sizes, fully unrolled
+    static void sort2(int[] arr, int from) {
+        compareExchange(arr, from, from + 1);
+    }
+
+    static void sort3(int[] arr, int from) {
+        compareExchange(arr, from + 1, from + 2);
+        compareExchange(arr, from, from + 2);
+        compareExchange(arr, from, from + 1);
+    }
+
+    static void sort4(int[] arr, int from) {
+        compareExchange(arr, from, from + 1);
+        compareExchange(arr, from + 2, from + 3);
+        compareExchange(arr, from, from + 2);
+        compareExchange(arr, from + 1, from + 3);
+        compareExchange(arr, from + 1, from + 2);
+    }
+
+    // Run the precomputed network for n elements over arr[from, from + n)
+    static void sortNetwork(int[] arr, int from, int n) {
+        int[] network = NETWORKS[n];
+        for (int c = 0; c < network.length; c += 2) {
+            compareExchange(arr, from + network[c], from + network[c + 1]);
+        }
+    }
+
+    // Build Batcher odd-even merge networks for every size up to MAX_NETWORK_SIZE
+    // A network for 16 inputs also sorts fewer inputs if the missing ones are treated as
+    // +infinity, so each size keeps only the comparators whose both ends are in range
+    static int[][] buildNetworks() {
+        int[][] networks = new int[MAX_NETWORK_SIZE + 1][];
+        for (int n = 0; n <= MAX_NETWORK_SIZE; n++) {
+            int[] pairs = new int[2 * 80];
+            int count = 0;
+            for (int p = 1; p < MAX_NETWORK_SIZE; p <<= 1) {
+                for (int k = p; k >= 1; k >>= 1) {
+                    for (int j = k % p; j + k < MAX_NETWORK_SIZE; j += 2 * k) {
+                        for (int i = 0; i < k && i + j + k < MAX_NETWORK_SIZE; i++) {
+                            int lo = i + j;
+                            int hi = i + j + k;
+                            // Only compare elements inside the same block being merged, and both within n
+                            if (lo / (2 * p) == hi / (2 * p) && hi < n) {
+                                pairs[count++] = lo;
+                                pairs[count++] = hi;
+                            }
+                        }
+                    }
+                }
+            }
+            networks[n] = Arrays.copyOf(pairs, count);
+        }
+        return networks;
+    }
 }
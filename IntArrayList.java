@@ -0,0 +1,164 @@
+package com.dataStructures;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// Growable list of primitive ints, the general-purpose form of DynamicArray
+// Bulk operations move whole blocks with System.arraycopy instead of element by element
+public class IntArrayList {
+    static final int DEFAULT_CAPACITY = 16;
+
+    int[] arr;
+    int size;
+    final GrowthPolicy growthPolicy;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.DOUBLING);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    public IntArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        arr = new int[initialCapacity];
+        size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    // Number of elements in the list
+    public int size() {
+        return size;
+    }
+
+    // Check if the list has no elements
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Number of elements the backing array can hold before it has to grow
+    public int capacity() {
+        return arr.length;
+    }
+
+    // Get the value at a specific position
+    public int get(int pos) {
+        checkIndex(pos);
+        return arr[pos];
+    }
+
+    // Replace the value at a specific position, returning the old value
+    public int set(int pos, int val) {
+        checkIndex(pos);
+        int old = arr[pos];
+        arr[pos] = val;
+        return old;
+    }
+
+    // Method to add a value to the end of the list
+    public void add(int val) {
+        if (size == arr.length)
+            grow(size + 1);
+        arr[size++] = val;
+    }
+
+    // Method to add a value at a specific position in the list
+    public void addAtSpecPos(int pos, int val) {
+        checkPosition(pos);
+        if (size == arr.length)
+            grow(size + 1);
+        System.arraycopy(arr, pos, arr, pos + 1, size - pos);
+        arr[pos] = val;
+        size++;
+    }
+
+    // Method to delete the value at a specific position in the list, returning it
+    public int deleteAtSpecPos(int pos) {
+        checkIndex(pos);
+        int old = arr[pos];
+        System.arraycopy(arr, pos + 1, arr, pos, size - pos - 1);
+        size--;
+        return old;
+    }
+
+    // Append every element of the source array
+    public void addAll(int[] src) {
+        addAll(src, 0, src.length);
+    }
+
+    // Append len elements of the source array starting at off, in one block move
+    public void addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len > arr.length - size)
+            grow(size + len);
+        System.arraycopy(src, off, arr, size, len);
+        size += len;
+    }
+
+    // Insert len elements of the source array at a specific position, shifting the tail once
+    public void insertAll(int pos, int[] src, int off, int len) {
+        checkPosition(pos);
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len > arr.length - size)
+            grow(size + len);
+        System.arraycopy(arr, pos, arr, pos + len, size - pos);
+        System.arraycopy(src, off, arr, pos, len);
+        size += len;
+    }
+
+    // Remove the elements in [from, to), closing the gap with one block move
+    public void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        System.arraycopy(arr, to, arr, from, size - to);
+        size -= to - from;
+    }
+
+    // Remove every element but keep the backing array for reuse
+    public void clear() {
+        size = 0;
+    }
+
+    // Grow the backing array, if needed, so that it holds at least minCapacity elements
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > arr.length)
+            grow(minCapacity);
+    }
+
+    // Shrink the backing array to exactly the number of elements
+    public void trimToSize() {
+        if (size < arr.length)
+            arr = Arrays.copyOf(arr, size);
+    }
+
+    // Copy the elements into a new array of exactly the list's size
+    public int[] toArray() {
+        return Arrays.copyOf(arr, size);
+    }
+
+    // Method to display the elements of the list
+    public void display() {
+        for (int i = 0; i < size; i++) {
+            System.out.print(arr[i] + " ");
+        }
+        System.out.println();
+    }
+
+    // Reallocate the backing array to the size chosen by the growth policy
+    void grow(int minCapacity) {
+        arr = Arrays.copyOf(arr, GrowthPolicy.newCapacity(growthPolicy, arr.length, minCapacity));
+    }
+
+    // Check that pos refers to an existing element
+    void checkIndex(int pos) {
+        if (pos < 0 || pos >= size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+    }
+
+    // Check that pos is a valid insertion point, which includes the end of the list
+    void checkPosition(int pos) {
+        if (pos < 0 || pos > size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+    }
+}
@@ -0,0 +1,75 @@
+package com.DSA;
+
+// Bounded circular queue of primitive ints for use by a single thread
+// Head and tail are ever-increasing sequence counters masked into a power-of-two array,
+// so both enqueue and dequeue are O(1) and nothing is ever shifted
+public class IntRingQueue {
+    // Status codes returned by offer
+    public static final int OK = 0;
+    public static final int FULL = 1;
+
+    // Returned by poll and peek when the queue is empty; no int widened to a long can equal it
+    public static final long EMPTY = Long.MIN_VALUE;
+
+    final int arr[]; // Array to store queue elements
+    final int mask; // Capacity - 1, used to wrap sequence numbers into array indexes
+    long head; // Sequence number of the next element to dequeue
+    long tail; // Sequence number of the next free slot
+
+    // Create a queue holding at least the requested number of elements, rounded up to a power of two
+    public IntRingQueue(int capacity) {
+        int size = roundToPowerOfTwo(capacity);
+        arr = new int[size];
+        mask = size - 1;
+        head = 0;
+        tail = 0;
+    }
+
+    // Method to add an element to the end of the queue; returns OK or FULL
+    public int offer(int val) {
+        if (tail - head == arr.length)
+            return FULL;
+
+        arr[(int) tail & mask] = val;
+        tail++;
+        return OK;
+    }
+
+    // Method to remove and return the element from the front of the queue, or EMPTY
+    public long poll() {
+        if (head == tail)
+            return EMPTY;
+
+        return arr[(int) head++ & mask];
+    }
+
+    // Method to return the element at the front of the queue without removing it, or EMPTY
+    public long peek() {
+        if (head == tail)
+            return EMPTY;
+
+        return arr[(int) head & mask];
+    }
+
+    // Number of elements in the queue
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    // Maximum number of elements the queue can hold
+    public int capacity() {
+        return arr.length;
+    }
+
+    // Method to check if the queue is empty
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    // Smallest power of two not less than the requested capacity
+    static int roundToPowerOfTwo(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
@@ -0,0 +1,112 @@
+// Package declaration indicating the package structure
+package com.DSA;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// Growable stack of primitive ints: no boxing, no fixed MAX_SIZE
+public class IntStack {
+  
+    // Capacity used when none is given
+    static final int DEFAULT_CAPACITY = 16;
+  
+    // Largest array size the JVM reliably allows
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+  
+    // Array to store the stack elements; it doubles whenever it fills up
+    int arr[];
+  
+    // Number of elements in the stack; the top element is at arr[size - 1]
+    int size;
+  
+    // Constructor to initialize an empty stack
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+  
+    // Constructor to initialize an empty stack with room for the given number of elements
+    public IntStack(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        arr = new int[initialCapacity];
+        size = 0;
+    }
+  
+    // Method to push an element onto the stack, growing it in amortized O(1)
+    public void push(int val) {
+        if (size == arr.length)
+            grow(size + 1);
+        arr[size++] = val;
+    }
+  
+    // Method to push len elements of src starting at off; src[off + len - 1] ends up on top
+    public void pushAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len > arr.length - size)
+            grow(size + len);
+        System.arraycopy(src, off, arr, size, len);
+        size += len;
+    }
+  
+    // Method to pop an element from the stack
+    public int pop() {
+        // Check if the stack is empty
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Stack is empty");
+        }
+        return arr[--size];
+    }
+  
+    // Method to pop len elements into dst starting at off, in pop order: the old top lands at dst[off]
+    public void popInto(int[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        if (len > size) {
+            throw new IndexOutOfBoundsException("Cannot pop " + len + " elements, Size: " + size);
+        }
+        for (int i = 0; i < len; i++) {
+            dst[off + i] = arr[size - 1 - i];
+        }
+        size -= len;
+    }
+  
+    // Method to peek at the top element of the stack without removing it
+    public int peek() {
+        // Check if the stack is empty
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Stack is empty");
+        }
+        return arr[size - 1];
+    }
+  
+    // Method to check if the stack is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+  
+    // Number of elements in the stack
+    public int size() {
+        return size;
+    }
+  
+    // Remove every element but keep the array, so refilling the stack does not reallocate
+    public void clear() {
+        size = 0;
+    }
+  
+    // Method to display the elements of the stack, bottom to top
+    public void display() {
+        for (int i = 0; i < size; i++) {
+            System.out.print(arr[i] + " ");
+        }
+    }
+  
+    // Grow the array to at least minCapacity, doubling so that pushes stay amortized O(1)
+    void grow(int minCapacity) {
+        // A negative minimum means size + len overflowed an int
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY)
+            throw new OutOfMemoryError("Stack too large: " + Integer.toUnsignedString(minCapacity));
+        // Double in long arithmetic and clamp, so the capacity cannot overflow near the limit
+        int doubled = (int) Math.min(MAX_CAPACITY, 2L * arr.length);
+        arr = Arrays.copyOf(arr, Math.max(minCapacity, doubled));
+    }
+}
@@ -1,3 +1,5 @@
+package searchAlgorithms;
+
 public class LinearSearch {
 
     // Linear search for an integer in an array
@@ -50,7 +52,7 @@ public class LinearSearch {
 
     // Find the maximum element in an array
     public static int findMaxElem(int[] arr){
-        int max = 0;
+        int max = arr[0];
         for(int i = 0; i < arr.length; i++) {
             if(arr[i] > max)
                 max = arr[i];        
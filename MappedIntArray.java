@@ -0,0 +1,228 @@
+package com.dataStructures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Persistent dynamic int array stored in a memory-mapped file
+// The file starts with a small header recording the size and capacity, followed by the
+// elements in fixed-size chunks. Reopening maps the existing chunks instead of reloading
+// them, and growing extends the file and maps one more chunk without touching the others
+public final class MappedIntArray implements AutoCloseable {
+
+    // Header layout: magic, version, size, capacity
+    static final int MAGIC = 0x4D494E54; // "MINT"
+    static final int VERSION = 1;
+    static final int SIZE_OFFSET = 8;
+    static final int CAPACITY_OFFSET = 16;
+    static final int HEADER_BYTES = 64;
+
+    // Each chunk holds 2^24 ints (64 MB), well inside the 2 GB limit of a single mapping
+    static final int CHUNK_SHIFT = 24;
+    static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    static final long CHUNK_MASK = CHUNK_SIZE - 1;
+    static final long CHUNK_BYTES = CHUNK_SIZE * Integer.BYTES;
+
+    // Largest number of ints moved through the scratch buffer at once when shifting
+    static final int SCRATCH_SIZE = 8192;
+
+    final FileChannel channel;
+    final MappedByteBuffer header;
+    MappedByteBuffer[] mappings;
+    IntBuffer[] chunks;
+    int chunkCount;
+    long size;
+    final int[] scratch = new int[SCRATCH_SIZE];
+
+    // Open the array stored in the given file, creating an empty one if the file does not exist
+    public MappedIntArray(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // Validate an existing file before mapping anything: a mapping past its end would grow it
+            boolean fresh = channel.size() == 0;
+            if (!fresh)
+                checkHeader(file);
+
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (fresh) {
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putLong(SIZE_OFFSET, 0);
+                header.putLong(CAPACITY_OFFSET, 0);
+            }
+
+            // Map the chunks already on disk; their contents are paged in lazily on first access
+            size = header.getLong(SIZE_OFFSET);
+            long capacity = header.getLong(CAPACITY_OFFSET);
+            int existing = (int) (capacity >>> CHUNK_SHIFT);
+            mappings = new MappedByteBuffer[Math.max(4, existing)];
+            chunks = new IntBuffer[mappings.length];
+            chunkCount = 0;
+            for (int i = 0; i < existing; i++) {
+                mapChunk();
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    // Number of elements in the array
+    public long size() {
+        return size;
+    }
+
+    // Number of elements the mapped chunks can hold
+    public long capacity() {
+        return (long) chunkCount << CHUNK_SHIFT;
+    }
+
+    // Get the value at a specific position
+    public int get(long pos) {
+        checkIndex(pos);
+        return chunk(pos).get((int) (pos & CHUNK_MASK));
+    }
+
+    // Replace the value at a specific position
+    public void set(long pos, int val) {
+        checkIndex(pos);
+        chunk(pos).put((int) (pos & CHUNK_MASK), val);
+    }
+
+    // Method to add a value to the end of the array
+    public void add(int val) {
+        if (size == capacity())
+            grow();
+        chunk(size).put((int) (size & CHUNK_MASK), val);
+        setSize(size + 1);
+    }
+
+    // Method to add a value at a specific position in the array
+    public void addAtSpecPos(long pos, int val) {
+        if (pos < 0 || pos > size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+        if (size == capacity())
+            grow();
+
+        moveRange(pos, pos + 1, size - pos);
+        chunk(pos).put((int) (pos & CHUNK_MASK), val);
+        setSize(size + 1);
+    }
+
+    // Method to delete the value at a specific position in the array
+    public void deleteAtSpecPos(long pos) {
+        checkIndex(pos);
+        moveRange(pos + 1, pos, size - pos - 1);
+        setSize(size - 1);
+    }
+
+    // Write every modified page, header included, to the storage device
+    public void force() {
+        for (int i = 0; i < chunkCount; i++) {
+            mappings[i].force();
+        }
+        header.force();
+    }
+
+    // Flush and close the file; the mappings themselves are released when they are garbage collected
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    // Read the header of an existing file with a plain read and reject anything that is not ours
+    void checkHeader(Path file) throws IOException {
+        if (channel.size() < HEADER_BYTES)
+            throw new IOException("Not a MappedIntArray file: " + file);
+
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, buf.position()) < 0)
+                throw new IOException("Not a MappedIntArray file: " + file);
+        }
+        if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION)
+            throw new IOException("Not a MappedIntArray file: " + file);
+    }
+
+    // Record the new size in the header as well, so it survives a restart
+    void setSize(long newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    // Extend the file by one chunk and map it; existing mappings stay valid
+    void grow() {
+        try {
+            mapChunk();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        header.putLong(CAPACITY_OFFSET, capacity());
+    }
+
+    // Map the next chunk of the file, which grows the file if it is not long enough yet
+    void mapChunk() throws IOException {
+        if (chunkCount == mappings.length) {
+            mappings = Arrays.copyOf(mappings, chunkCount * 2);
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        long offset = HEADER_BYTES + chunkCount * CHUNK_BYTES;
+        MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, offset, CHUNK_BYTES);
+        mappings[chunkCount] = mapping;
+        chunks[chunkCount] = mapping.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        chunkCount++;
+    }
+
+    // Chunk holding the given position
+    IntBuffer chunk(long pos) {
+        return chunks[(int) (pos >>> CHUNK_SHIFT)];
+    }
+
+    // Copy count ints from position src to position dst through the scratch buffer; the ranges may overlap
+    void moveRange(long src, long dst, long count) {
+        if (dst < src) {
+            // Moving left: copy front to back so no source is overwritten before it is read
+            while (count > 0) {
+                int n = (int) Math.min(Math.min(count, SCRATCH_SIZE),
+                                       Math.min(CHUNK_SIZE - (src & CHUNK_MASK), CHUNK_SIZE - (dst & CHUNK_MASK)));
+                chunk(src).get((int) (src & CHUNK_MASK), scratch, 0, n);
+                chunk(dst).put((int) (dst & CHUNK_MASK), scratch, 0, n);
+                src += n;
+                dst += n;
+                count -= n;
+            }
+        } else {
+            // Moving right: copy back to front
+            long srcEnd = src + count;
+            long dstEnd = dst + count;
+            while (count > 0) {
+                int n = (int) Math.min(Math.min(count, SCRATCH_SIZE),
+                                       Math.min(((srcEnd - 1) & CHUNK_MASK) + 1, ((dstEnd - 1) & CHUNK_MASK) + 1));
+                srcEnd -= n;
+                dstEnd -= n;
+                chunk(srcEnd).get((int) (srcEnd & CHUNK_MASK), scratch, 0, n);
+                chunk(dstEnd).put((int) (dstEnd & CHUNK_MASK), scratch, 0, n);
+                count -= n;
+            }
+        }
+    }
+
+    // Check that pos refers to an existing element
+    void checkIndex(long pos) {
+        if (pos < 0 || pos >= size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+    }
+}
@@ -0,0 +1,104 @@
+package searchAlgorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Searches over 2D grids; every method returns the row and column packed like SilentLinearSearch
+public class MatrixSearch {
+
+    // Row ranges holding at most this many cells are scanned on a single thread
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // Parallel row-major search; returns the same first hit as LinearSearch.search(int[][], int)
+    public static long parallelSearch(int[][] arr, int target) {
+        // Smallest packed hit so far; packed values order the same way as row-major positions
+        AtomicLong best = new AtomicLong(Long.MAX_VALUE);
+        ForkJoinPool.commonPool().invoke(new RowSearchTask(arr, target, 0, arr.length, best));
+        long found = best.get();
+        return found == Long.MAX_VALUE ? SilentLinearSearch.NOT_FOUND : found;
+    }
+
+    // Staircase search over a rectangular matrix whose rows and columns are both sorted ascending, O(rows + cols)
+    public static long staircaseSearch(int[][] arr, int target) {
+        if (arr.length == 0)
+            return SilentLinearSearch.NOT_FOUND;
+
+        // Start at the top-right corner: moving left lowers the value, moving down raises it
+        int row = 0;
+        int col = arr[0].length - 1;
+        while (row < arr.length && col >= 0) {
+            int val = arr[row][col];
+            if (val == target)
+                return SilentLinearSearch.pack(row, col);
+            if (val > target)
+                col--;
+            else
+                row++;
+        }
+        return SilentLinearSearch.NOT_FOUND;
+    }
+
+    // Binary search of each row of a matrix whose rows are sorted ascending, O(rows * log cols)
+    public static long rowBinarySearch(int[][] arr, int target) {
+        for (int i = 0; i < arr.length; i++) {
+            int[] row = arr[i];
+            // Skip rows whose range cannot hold the target before paying for the search
+            if (row.length == 0 || target < row[0] || target > row[row.length - 1])
+                continue;
+
+            int j = BinarySearch.lowerBound(row, target);
+            if (row[j] == target)
+                return SilentLinearSearch.pack(i, j);
+        }
+        return SilentLinearSearch.NOT_FOUND;
+    }
+
+    // Fork-join task scanning the rows [from, to)
+    private static final class RowSearchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[][] arr;
+        final int target;
+        final int from;
+        final int to;
+        final AtomicLong best;
+
+        RowSearchTask(int[][] arr, int target, int from, int to, AtomicLong best) {
+            this.arr = arr;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.best = best;
+        }
+
+        @Override
+        protected void compute() {
+            // Nothing to do for an empty range, or if an earlier row already holds a hit
+            if (from >= to || SilentLinearSearch.row(best.get()) < from)
+                return;
+
+            long cells = (long) (to - from) * (arr[from].length + 1);
+            if (to - from > 1 && cells > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RowSearchTask(arr, target, from, mid, best),
+                          new RowSearchTask(arr, target, mid, to, best));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                // Cancel once a hit in an earlier row makes the rest of this range irrelevant
+                if (SilentLinearSearch.row(best.get()) < i)
+                    return;
+
+                int[] row = arr[i];
+                for (int j = 0; j < row.length; j++) {
+                    if (row[j] == target) {
+                        best.accumulateAndGet(SilentLinearSearch.pack(i, j), Math::min);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package sortAlgorithms;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class MergeSort {
 
+    // Ranges at or below this size are finished with insertion sort
+    public static final int INSERTION_CUTOFF = 32;
+
+    // Ranges at or below this size are sorted on the current thread instead of being forked
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
     // Main function to perform Merge Sort
     public static int[] sort(int[] arr) {
         // Base case: If the array has only one element, it is already sorted
@@ -45,17 +53,84 @@ public class MergeSort {
         return joined;
     }
 
-    // In-place Merge Sort
+    // In-place Merge Sort of the range [start, end)
     public static void MergesortinPlace(int[] arr, int start, int end) {
-        // Base case: If the subarray has only one or zero elements, it is already sorted
-        if(end - start == 1)
+        sort(arr, start, end);
+    }
+
+    // Bottom-up Merge Sort of the range [from, to), stable and without recursion
+    public static void sort(int[] arr, int from, int to) {
+        // Base case: If the range has only one or zero elements, it is already sorted
+        if (to - from < 2)
+            return;
+
+        sort(arr, from, to, new int[to - from]);
+    }
+
+    // Bottom-up Merge Sort of the range [from, to) using a caller-supplied buffer of at least (to - from) elements
+    public static void sort(int[] arr, int from, int to, int[] aux) {
+        int n = to - from;
+        if (n < 2)
             return;
+        if (aux.length < n)
+            throw new IllegalArgumentException("Buffer too small: " + aux.length + " < " + n);
+
+        // Sort short runs with insertion sort so the merge passes start from a wider width
+        // Steps are clamped to the remaining length so no index overflows on arrays near 2^31
+        for (int lo = from; lo < to; ) {
+            int hi = lo + Math.min(INSERTION_CUTOFF, to - lo);
+            InsertionSort.sort(arr, lo, hi);
+            lo = hi;
+        }
 
-        // Find the middle point of the array
-        int mid = (start + end) / 2;
+        // Each pass merges pairs of runs from src into dst, then the two arrays swap roles
+        // Once a run covers half the range, the next pass is the last one
+        int[] src = arr, dst = aux;
+        int srcBase = from, dstBase = 0;
+        for (int width = INSERTION_CUTOFF; width < n; width = width < n - width ? width << 1 : n) {
+            for (int lo = 0; lo < n; ) {
+                int mid = lo + Math.min(width, n - lo);
+                int hi = mid + Math.min(width, n - mid);
+                mergeRuns(src, srcBase, dst, dstBase, lo, mid, hi);
+                lo = hi;
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
 
-        // Merge the two halves in-place
-        mergeInplace(arr, start, mid, end);
+        // If the last pass ended in the buffer, copy the result back
+        if (src != arr) {
+            System.arraycopy(aux, 0, arr, from, n);
+        }
+    }
+
+    // Merge the runs [lo, mid) and [mid, hi) of src into the same positions of dst, offsets relative to each base
+    static void mergeRuns(int[] src, int srcBase, int[] dst, int dstBase, int lo, int mid, int hi) {
+        int i = srcBase + lo, j = srcBase + mid, k = dstBase + lo;
+        int leftEnd = srcBase + mid, rightEnd = srcBase + hi;
+
+        // Runs that are already in order only need to be copied across
+        if (mid == hi || src[leftEnd - 1] <= src[j]) {
+            System.arraycopy(src, i, dst, k, hi - lo);
+            return;
+        }
+
+        // Take from the left run on ties to keep the sort stable
+        while (i < leftEnd && j < rightEnd) {
+            if (src[j] < src[i])
+                dst[k++] = src[j++];
+            else
+                dst[k++] = src[i++];
+        }
+
+        // Copy whichever run still has elements left
+        System.arraycopy(src, i, dst, k, leftEnd - i);
+        System.arraycopy(src, j, dst, k + leftEnd - i, rightEnd - j);
     }
 
     // In-place merge function
@@ -86,4 +161,91 @@ public class MergeSort {
             arr[start + k] = joined[k];
         }
     }
+
+    // Parallel Merge Sort that sorts the array in place using the common fork-join pool
+    public static void parallelSort(int[] arr) {
+        parallelSort(arr, INSERTION_CUTOFF);
+    }
+
+    // Parallel Merge Sort with a tunable insertion sort cutoff
+    public static void parallelSort(int[] arr, int cutoff) {
+        if (arr.length < 2)
+            return;
+
+        // One scratch buffer for the whole sort; each task only touches its own index range of it
+        int[] buffer = new int[arr.length];
+        ForkJoinPool.commonPool().invoke(new SortTask(arr, buffer, 0, arr.length, Math.max(cutoff, 1)));
+    }
+
+    // Fork-join task sorting the range [from, to) of the array
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr;
+        final int[] buffer;
+        final int from;
+        final int to;
+        final int cutoff;
+
+        SortTask(int[] arr, int[] buffer, int from, int to, int cutoff) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            // Small ranges are not worth the cost of forking
+            if (to - from <= PARALLEL_THRESHOLD) {
+                sortRange(arr, buffer, from, to, cutoff);
+                return;
+            }
+
+            // Sort both halves in parallel, then merge them
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(arr, buffer, from, mid, cutoff),
+                      new SortTask(arr, buffer, mid, to, cutoff));
+            mergeRange(arr, buffer, from, mid, to);
+        }
+    }
+
+    // Sequential top-down sort of the range [from, to) using the shared scratch buffer
+    static void sortRange(int[] arr, int[] buffer, int from, int to, int cutoff) {
+        // Base case: small ranges are sorted with a sorting network or insertion sort
+        if (to - from <= cutoff) {
+            InsertionSort.sortSmall(arr, from, to);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        sortRange(arr, buffer, from, mid, cutoff);
+        sortRange(arr, buffer, mid, to, cutoff);
+        mergeRange(arr, buffer, from, mid, to);
+    }
+
+    // Merge the sorted ranges [from, mid) and [mid, to) in place
+    static void mergeRange(int[] arr, int[] buffer, int from, int mid, int to) {
+        // Skip the merge if the two halves are already in order
+        if (arr[mid - 1] <= arr[mid])
+            return;
+
+        // Only the left half needs to be moved out of the way
+        System.arraycopy(arr, from, buffer, from, mid - from);
+        int i = from, j = mid, k = from;
+
+        // Take from the left half on ties to keep the sort stable
+        while (i < mid && j < to) {
+            if (arr[j] < buffer[i])
+                arr[k++] = arr[j++];
+            else
+                arr[k++] = buffer[i++];
+        }
+
+        // Copy any remaining elements from the left half; the right half is already in place
+        while (i < mid) {
+            arr[k++] = buffer[i++];
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.DSA;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Bounded lock-free multi-producer/multi-consumer queue of primitive ints (Vyukov's algorithm)
+// Every slot carries a sequence number telling producers and consumers whose turn it is, so a
+// thread claims a slot with one CAS on the shared counter and never blocks on another thread.
+// offer and poll return the status codes of IntRingQueue instead of throwing
+public class MpmcIntRingQueue {
+
+    static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    final int[] buffer; // Slot values
+    final long[] sequences; // Slot turn markers, accessed through SEQUENCE
+    final int mask;
+
+    // Counters sit on their own cache lines so producers and consumers do not false-share
+    final PaddedCounter enqueuePos = new PaddedCounter();
+    final PaddedCounter dequeuePos = new PaddedCounter();
+
+    // Create a queue holding at least the requested number of elements, rounded up to a power of two
+    public MpmcIntRingQueue(int capacity) {
+        int size = IntRingQueue.roundToPowerOfTwo(Math.max(capacity, 2));
+        buffer = new int[size];
+        sequences = new long[size];
+        mask = size - 1;
+        // Slot i is first free for the producer holding ticket i
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    // Add an element to the end of the queue; returns IntRingQueue.OK or IntRingQueue.FULL
+    public int offer(int val) {
+        long pos = enqueuePos.get();
+        for (;;) {
+            int idx = (int) pos & mask;
+            long seq = (long) SEQUENCE.getAcquire(sequences, idx);
+            long dif = seq - pos;
+            if (dif == 0) {
+                // The slot is free for this ticket: claim it, then publish the value
+                if (enqueuePos.compareAndSet(pos, pos + 1)) {
+                    buffer[idx] = val;
+                    SEQUENCE.setRelease(sequences, idx, pos + 1);
+                    return IntRingQueue.OK;
+                }
+                pos = enqueuePos.get();
+            } else if (dif < 0) {
+                // The slot still holds an element from the previous lap
+                return IntRingQueue.FULL;
+            } else {
+                // Another producer took this ticket; retry with a fresh one
+                pos = enqueuePos.get();
+            }
+        }
+    }
+
+    // Remove and return the element at the front of the queue, or IntRingQueue.EMPTY
+    public long poll() {
+        long pos = dequeuePos.get();
+        for (;;) {
+            int idx = (int) pos & mask;
+            long seq = (long) SEQUENCE.getAcquire(sequences, idx);
+            long dif = seq - (pos + 1);
+            if (dif == 0) {
+                // The slot holds the element for this ticket: claim it, then hand the slot to the next lap
+                if (dequeuePos.compareAndSet(pos, pos + 1)) {
+                    int val = buffer[idx];
+                    SEQUENCE.setRelease(sequences, idx, pos + mask + 1);
+                    return val;
+                }
+                pos = dequeuePos.get();
+            } else if (dif < 0) {
+                // No producer has filled this slot yet
+                return IntRingQueue.EMPTY;
+            } else {
+                pos = dequeuePos.get();
+            }
+        }
+    }
+
+    // Approximate number of elements; exact only when no other thread is working on the queue
+    public int size() {
+        long size = enqueuePos.get() - dequeuePos.get();
+        return (int) Math.max(0, Math.min(size, buffer.length));
+    }
+
+    // Maximum number of elements the queue can hold
+    public int capacity() {
+        return buffer.length;
+    }
+
+    // Check if the queue is empty at the moment of the call
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Cache-line padding placed before the counter value
+    abstract static class CounterPadBefore {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    // Counter value, kept in a superclass so the JVM cannot reorder it among the padding
+    abstract static class CounterValue extends CounterPadBefore {
+        volatile long value;
+    }
+
+    // Sequence counter padded on both sides to a full cache line
+    static final class PaddedCounter extends CounterValue {
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        static final VarHandle VALUE;
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(CounterValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long get() {
+            return value;
+        }
+
+        boolean compareAndSet(long expected, long next) {
+            return VALUE.compareAndSet(this, expected, next);
+        }
+    }
+}
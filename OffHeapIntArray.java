@@ -0,0 +1,137 @@
+package com.dataStructures;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+// Off-heap dynamic int array built on the Foreign Function & Memory API
+// Storage is a list of fixed-size native chunks: growing adds a chunk and never copies
+// existing data, indexes are 64-bit, and the memory is freed explicitly by close()
+public class OffHeapIntArray implements AutoCloseable {
+
+    // Each chunk holds 2^24 ints (64 MB)
+    static final int CHUNK_SHIFT = 24;
+    static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    static final long CHUNK_MASK = CHUNK_SIZE - 1;
+    static final long CHUNK_BYTES = CHUNK_SIZE * Integer.BYTES;
+
+    // All chunks belong to one shared arena, so they are freed together
+    final Arena arena;
+    MemorySegment[] chunks;
+    int chunkCount;
+    long size;
+
+    public OffHeapIntArray() {
+        arena = Arena.ofShared();
+        chunks = new MemorySegment[4];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    // Number of elements in the array
+    public long size() {
+        return size;
+    }
+
+    // Number of elements the allocated chunks can hold
+    public long capacity() {
+        return (long) chunkCount << CHUNK_SHIFT;
+    }
+
+    // Get the value at a specific position
+    public int get(long pos) {
+        checkIndex(pos);
+        return chunk(pos).getAtIndex(ValueLayout.JAVA_INT, pos & CHUNK_MASK);
+    }
+
+    // Replace the value at a specific position
+    public void set(long pos, int val) {
+        checkIndex(pos);
+        chunk(pos).setAtIndex(ValueLayout.JAVA_INT, pos & CHUNK_MASK, val);
+    }
+
+    // Method to add a value to the end of the array
+    public void add(int val) {
+        if (size == capacity())
+            addChunk();
+        chunk(size).setAtIndex(ValueLayout.JAVA_INT, size & CHUNK_MASK, val);
+        size++;
+    }
+
+    // Method to add a value at a specific position in the array
+    public void addAtSpecPos(long pos, int val) {
+        if (pos < 0 || pos > size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+        if (size == capacity())
+            addChunk();
+
+        // Shift the tail one slot right, chunk by chunk
+        moveRange(pos, pos + 1, size - pos);
+        chunk(pos).setAtIndex(ValueLayout.JAVA_INT, pos & CHUNK_MASK, val);
+        size++;
+    }
+
+    // Method to delete the value at a specific position in the array
+    public void deleteAtSpecPos(long pos) {
+        checkIndex(pos);
+
+        // Shift the tail one slot left, chunk by chunk
+        moveRange(pos + 1, pos, size - pos - 1);
+        size--;
+    }
+
+    // Free all native memory; the array cannot be used afterwards
+    @Override
+    public void close() {
+        arena.close();
+        chunks = null;
+        chunkCount = 0;
+        size = 0;
+    }
+
+    // Allocate one more chunk; existing chunks are left where they are
+    void addChunk() {
+        if (chunkCount == chunks.length)
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        chunks[chunkCount++] = arena.allocate(CHUNK_BYTES, Integer.BYTES);
+    }
+
+    // Chunk holding the given position
+    MemorySegment chunk(long pos) {
+        return chunks[(int) (pos >>> CHUNK_SHIFT)];
+    }
+
+    // Copy count ints from position src to position dst; the ranges may overlap
+    void moveRange(long src, long dst, long count) {
+        if (dst < src) {
+            // Moving left: copy front to back so no source is overwritten before it is read
+            while (count > 0) {
+                long n = Math.min(count, Math.min(CHUNK_SIZE - (src & CHUNK_MASK), CHUNK_SIZE - (dst & CHUNK_MASK)));
+                MemorySegment.copy(chunk(src), (src & CHUNK_MASK) * Integer.BYTES,
+                                   chunk(dst), (dst & CHUNK_MASK) * Integer.BYTES, n * Integer.BYTES);
+                src += n;
+                dst += n;
+                count -= n;
+            }
+        } else {
+            // Moving right: copy back to front, one piece per chunk boundary
+            long srcEnd = src + count;
+            long dstEnd = dst + count;
+            while (count > 0) {
+                long n = Math.min(count, Math.min(((srcEnd - 1) & CHUNK_MASK) + 1, ((dstEnd - 1) & CHUNK_MASK) + 1));
+                srcEnd -= n;
+                dstEnd -= n;
+                MemorySegment.copy(chunk(srcEnd), (srcEnd & CHUNK_MASK) * Integer.BYTES,
+                                   chunk(dstEnd), (dstEnd & CHUNK_MASK) * Integer.BYTES, n * Integer.BYTES);
+                count -= n;
+            }
+        }
+    }
+
+    // Check that pos refers to an existing element
+    void checkIndex(long pos) {
+        if (pos < 0 || pos >= size)
+            throw new IndexOutOfBoundsException("Position: " + pos + ", Size: " + size);
+    }
+}
@@ -1,6 +1,13 @@
+package sortAlgorithms;
 
 public class QuickSort {
 
+	// Ranges at or below this size are finished with insertion sort
+	static final int INSERTION_CUTOFF = 16;
+
+	// Ranges at or above this size pick the pivot with Tukey's ninther instead of median-of-three
+	static final int NINTHER_THRESHOLD = 128;
+
 	// Method to perform Quick Sort on an array
 	public static void quickSort(int[] arr, int low, int high) {
 		// Initialize variables to keep track of the range and pivot
@@ -38,4 +45,267 @@ public class QuickSort {
 		quickSort(arr, low, end);
 		quickSort(arr, start, high);
 	}
+
+	// Partitioning schemes available to the Introsort engine
+	public enum Partition {
+		// Two-pointer partition around a single pivot, same scheme as quickSort
+		HOARE,
+		// Yaroslavskiy dual-pivot partition into three ranges
+		DUAL_PIVOT,
+		// Dutch national flag partition that collapses runs of keys equal to the pivot
+		THREE_WAY
+	}
+
+	// Method to perform Introsort on the whole array
+	public static void introSort(int[] arr) {
+		introSort(arr, 0, arr.length - 1);
+	}
+
+	// Method to perform Introsort on the range [low, high]; guaranteed O(n log n) with bounded stack depth
+	public static void introSort(int[] arr, int low, int high) {
+		sort(arr, low, high, Partition.HOARE);
+	}
+
+	// Method to sort the whole array with the chosen partitioning scheme
+	public static void sort(int[] arr, Partition partition) {
+		sort(arr, 0, arr.length - 1, partition);
+	}
+
+	// Method to sort the range [low, high] with the chosen partitioning scheme
+	public static void sort(int[] arr, int low, int high, Partition partition) {
+		if (low >= high)
+			return;
+
+		// Allow 2 * log2(n) levels of partitioning before falling back to heap sort
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+		introSort(arr, low, high, depthLimit, partition);
+	}
+
+	// Introsort engine: partition, recurse into the smaller side and loop on the larger one
+	static void introSort(int[] arr, int low, int high, int depthLimit, Partition partition) {
+		while (high - low + 1 > INSERTION_CUTOFF) {
+			// Too many bad partitions: this range is adversarial, switch to heap sort
+			if (depthLimit-- == 0) {
+				heapSort(arr, low, high);
+				return;
+			}
+
+			// Each scheme reports the end of the left range and the start of the right range
+			long bounds;
+			switch (partition) {
+				case DUAL_PIVOT:
+					bounds = partitionDualPivot(arr, low, high);
+					int lessPivot = (int) (bounds >>> 32);
+					int greatPivot = (int) bounds;
+					// Keys between two distinct pivots still need sorting; equal pivots mean the middle is all equal
+					if (arr[lessPivot] < arr[greatPivot])
+						introSort(arr, lessPivot + 1, greatPivot - 1, depthLimit, partition);
+					bounds = pack(lessPivot - 1, greatPivot + 1);
+					break;
+				case THREE_WAY:
+					bounds = partitionThreeWay(arr, low, high);
+					break;
+				default:
+					bounds = partitionHoare(arr, low, high);
+					break;
+			}
+			int leftHigh = (int) (bounds >>> 32);
+			int rightLow = (int) bounds;
+
+			// Recursing only into the smaller side keeps the stack depth at O(log n)
+			if (leftHigh - low < high - rightLow) {
+				introSort(arr, low, leftHigh, depthLimit, partition);
+				low = rightLow;
+			} else {
+				introSort(arr, rightLow, high, depthLimit, partition);
+				high = leftHigh;
+			}
+		}
+
+		// Small ranges are finished with a sorting network or insertion sort
+		InsertionSort.sortSmall(arr, low, high + 1);
+	}
+
+	// Two-pointer partition of [low, high]; returns pack(end of left range, start of right range)
+	static long partitionHoare(int[] arr, int low, int high) {
+		int pivot = arr[choosePivot(arr, low, high)];
+		int start = low;
+		int end = high;
+
+		while (start <= end) {
+			while (arr[start] < pivot) {
+				start++;
+			}
+			while (arr[end] > pivot) {
+				end--;
+			}
+			if (start <= end) {
+				swap(arr, start, end);
+				start++;
+				end--;
+			}
+		}
+		return pack(end, start);
+	}
+
+	// Three-way partition of [low, high] into < pivot, == pivot and > pivot
+	// Returns pack(end of the < range, start of the > range); the == range in between is final
+	static long partitionThreeWay(int[] arr, int low, int high) {
+		return partitionThreeWay(arr, low, high, arr[choosePivot(arr, low, high)]);
+	}
+
+	// Three-way partition of [low, high] around a given pivot value, which must occur in the range
+	static long partitionThreeWay(int[] arr, int low, int high, int pivot) {
+		int lt = low; // arr[low, lt) < pivot
+		int i = low; // arr[lt, i) == pivot
+		int gt = high; // arr(gt, high] > pivot
+
+		while (i <= gt) {
+			int val = arr[i];
+			if (val < pivot) {
+				arr[i++] = arr[lt];
+				arr[lt++] = val;
+			} else if (val > pivot) {
+				arr[i] = arr[gt];
+				arr[gt--] = val;
+			} else {
+				i++;
+			}
+		}
+		return pack(lt - 1, gt + 1);
+	}
+
+	// Yaroslavskiy dual-pivot partition of [low, high]
+	// Returns pack(final index of the smaller pivot, final index of the larger pivot)
+	static long partitionDualPivot(int[] arr, int low, int high) {
+		// Use the tertiles as pivots rather than the ends, which are poor choices on sorted input
+		int third = (high - low + 1) / 3;
+		swap(arr, low, low + third);
+		swap(arr, high, high - third);
+		if (arr[low] > arr[high])
+			swap(arr, low, high);
+
+		int p = arr[low];
+		int q = arr[high];
+		int lt = low + 1; // arr(low, lt) < p
+		int gt = high - 1; // arr(gt, high) > q
+		int k = lt;
+
+		while (k <= gt) {
+			int val = arr[k];
+			if (val < p) {
+				swap(arr, k, lt++);
+			} else if (val > q) {
+				while (arr[gt] > q && k < gt) {
+					gt--;
+				}
+				swap(arr, k, gt--);
+				if (arr[k] < p)
+					swap(arr, k, lt++);
+			}
+			k++;
+		}
+
+		// Move the pivots into their final positions
+		swap(arr, low, --lt);
+		swap(arr, high, ++gt);
+		return pack(lt, gt);
+	}
+
+	// Pack two indices into one long so partitions can return both without allocating
+	static long pack(int first, int second) {
+		return (long) first << 32 | (second & 0xFFFFFFFFL);
+	}
+
+	// Swap two elements of the array
+	static void swap(int[] arr, int i, int j) {
+		int temp = arr[i];
+		arr[i] = arr[j];
+		arr[j] = temp;
+	}
+
+	// Pick the index of the pivot: median-of-three for small ranges, ninther for large ones
+	static int choosePivot(int[] arr, int low, int high) {
+		int mid = (low + high) >>> 1;
+		if (high - low + 1 < NINTHER_THRESHOLD)
+			return medianOfThree(arr, low, mid, high);
+
+		int step = (high - low + 1) / 8;
+		int a = medianOfThree(arr, low, low + step, low + 2 * step);
+		int b = medianOfThree(arr, mid - step, mid, mid + step);
+		int c = medianOfThree(arr, high - 2 * step, high - step, high);
+		return medianOfThree(arr, a, b, c);
+	}
+
+	// Return the index holding the median of arr[a], arr[b] and arr[c]
+	static int medianOfThree(int[] arr, int a, int b, int c) {
+		if (arr[a] < arr[b]) {
+			if (arr[b] < arr[c])
+				return b;
+			return arr[a] < arr[c] ? c : a;
+		}
+		if (arr[a] < arr[c])
+			return a;
+		return arr[b] < arr[c] ? c : b;
+	}
+
+	// Pick the index of the pivot among long keys, by the same rule as choosePivot(int[], ...)
+	// CoSort uses it so its unstable sort over long keys partitions exactly like this class
+	static int choosePivot(long[] arr, int low, int high) {
+		int mid = (low + high) >>> 1;
+		if (high - low + 1 < NINTHER_THRESHOLD)
+			return medianOfThree(arr, low, mid, high);
+
+		int step = (high - low + 1) / 8;
+		int a = medianOfThree(arr, low, low + step, low + 2 * step);
+		int b = medianOfThree(arr, mid - step, mid, mid + step);
+		int c = medianOfThree(arr, high - 2 * step, high - step, high);
+		return medianOfThree(arr, a, b, c);
+	}
+
+	// Return the index holding the median of arr[a], arr[b] and arr[c]
+	static int medianOfThree(long[] arr, int a, int b, int c) {
+		if (arr[a] < arr[b]) {
+			if (arr[b] < arr[c])
+				return b;
+			return arr[a] < arr[c] ? c : a;
+		}
+		if (arr[a] < arr[c])
+			return a;
+		return arr[b] < arr[c] ? c : b;
+	}
+
+	// Heap sort of the range [low, high], used as the worst-case fallback
+	static void heapSort(int[] arr, int low, int high) {
+		int n = high - low + 1;
+
+		// Build a max-heap over the range
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(arr, low, i, n);
+		}
+
+		// Repeatedly move the maximum to the end and restore the heap
+		for (int end = n - 1; end > 0; end--) {
+			int temp = arr[low];
+			arr[low] = arr[low + end];
+			arr[low + end] = temp;
+			siftDown(arr, low, 0, end);
+		}
+	}
+
+	// Sift the element at heap index i down a max-heap of the given size rooted at arr[base]
+	static void siftDown(int[] arr, int base, int i, int size) {
+		int val = arr[base + i];
+		int child;
+		while ((child = 2 * i + 1) < size) {
+			// Pick the larger of the two children
+			if (child + 1 < size && arr[base + child + 1] > arr[base + child])
+				child++;
+			if (arr[base + child] <= val)
+				break;
+			arr[base + i] = arr[base + child];
+			i = child;
+		}
+		arr[base + i] = val;
+	}
 }
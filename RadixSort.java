@@ -0,0 +1,180 @@
+package sortAlgorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class RadixSort {
+
+    // Keys are split into four 8-bit digits, one counting pass per digit
+    static final int RADIX_BITS = 8;
+    static final int RADIX = 1 << RADIX_BITS;
+    static final int MASK = RADIX - 1;
+    static final int PASSES = Integer.SIZE / RADIX_BITS;
+
+    // MSD buckets at or below this size are finished with insertion sort
+    static final int INSERTION_CUTOFF = 32;
+
+    // Histogram chunks at or below this size are counted on a single thread
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // LSD Radix Sort: one histogram pass, then one stable scatter pass per digit
+    public static void sort(int[] arr) {
+        if (arr.length < 2)
+            return;
+
+        int[] counts = new int[PASSES * RADIX];
+        histogram(arr, 0, arr.length, counts);
+        scatter(arr, counts);
+    }
+
+    // LSD Radix Sort whose histogram pass is split across the common fork-join pool
+    public static void parallelSort(int[] arr) {
+        if (arr.length < 2)
+            return;
+
+        int[] counts = ForkJoinPool.commonPool().invoke(new HistogramTask(arr, 0, arr.length));
+        scatter(arr, counts);
+    }
+
+    // MSD Radix Sort: in-place American flag sort on the top digit, recursing into each bucket
+    public static void msdSort(int[] arr) {
+        // One bucket table per digit level, reused by every bucket sorted at that level
+        int[][] levels = new int[PASSES][2 * RADIX + 1];
+        msdSort(arr, 0, arr.length, PASSES - 1, levels);
+    }
+
+    // Extract the digit of the given pass, with the sign bit flipped so negative numbers sort first
+    static int digit(int val, int pass) {
+        return ((val ^ Integer.MIN_VALUE) >>> (pass * RADIX_BITS)) & MASK;
+    }
+
+    // Count the digits of every pass for the range [from, to) in a single sweep
+    static void histogram(int[] arr, int from, int to, int[] counts) {
+        for (int i = from; i < to; i++) {
+            int key = arr[i] ^ Integer.MIN_VALUE;
+            counts[key & MASK]++;
+            counts[RADIX + ((key >>> 8) & MASK)]++;
+            counts[2 * RADIX + ((key >>> 16) & MASK)]++;
+            counts[3 * RADIX + (key >>> 24)]++;
+        }
+    }
+
+    // Run the scatter passes from the least significant digit up, ping-ponging with one buffer
+    static void scatter(int[] arr, int[] counts) {
+        int n = arr.length;
+        int[] src = arr, dst = new int[n];
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int base = pass * RADIX;
+
+            // Skip the pass if every key has the same digit here
+            if (counts[base + digit(src[0], pass)] == n)
+                continue;
+
+            // Turn the counts into starting offsets
+            int sum = 0;
+            for (int d = base; d < base + RADIX; d++) {
+                int count = counts[d];
+                counts[d] = sum;
+                sum += count;
+            }
+
+            // Stable distribution into the other array
+            for (int i = 0; i < n; i++) {
+                int val = src[i];
+                dst[counts[base + digit(val, pass)]++] = val;
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+
+        // If the last pass ended in the buffer, copy the result back
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // American flag sort of the range [from, to) on the digit of the given pass
+    static void msdSort(int[] arr, int from, int to, int pass, int[][] levels) {
+        if (to - from <= INSERTION_CUTOFF) {
+            InsertionSort.sort(arr, from, to);
+            return;
+        }
+
+        // bounds[d] is the start of bucket d (bounds[RADIX] == to), next[d] its next free slot
+        int[] bounds = levels[pass];
+        int next = RADIX + 1;
+        Arrays.fill(bounds, 0);
+        for (int i = from; i < to; i++) {
+            bounds[digit(arr[i], pass) + 1]++;
+        }
+        bounds[0] = from;
+        for (int d = 1; d <= RADIX; d++) {
+            bounds[d] += bounds[d - 1];
+        }
+        System.arraycopy(bounds, 0, bounds, next, RADIX);
+
+        // Cycle every misplaced element into its bucket
+        for (int d = 0; d < RADIX; d++) {
+            int end = bounds[d + 1];
+            while (bounds[next + d] < end) {
+                int val = arr[bounds[next + d]];
+                int dv = digit(val, pass);
+                while (dv != d) {
+                    int slot = bounds[next + dv]++;
+                    int tmp = arr[slot];
+                    arr[slot] = val;
+                    val = tmp;
+                    dv = digit(val, pass);
+                }
+                arr[bounds[next + d]++] = val;
+            }
+        }
+
+        // Sort each bucket on the next digit down
+        if (pass > 0) {
+            for (int d = 0; d < RADIX; d++) {
+                if (bounds[d + 1] - bounds[d] > 1)
+                    msdSort(arr, bounds[d], bounds[d + 1], pass - 1, levels);
+            }
+        }
+    }
+
+    // Fork-join task counting the digits of the range [from, to)
+    private static final class HistogramTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr;
+        final int from;
+        final int to;
+
+        HistogramTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                int[] counts = new int[PASSES * RADIX];
+                histogram(arr, from, to, counts);
+                return counts;
+            }
+
+            // Count both halves in parallel, then add the right half's counts into the left's
+            int mid = (from + to) >>> 1;
+            HistogramTask right = new HistogramTask(arr, mid, to);
+            right.fork();
+            int[] counts = new HistogramTask(arr, from, mid).compute();
+            int[] rightCounts = right.join();
+            for (int d = 0; d < counts.length; d++) {
+                counts[d] += rightCounts[d];
+            }
+            return counts;
+        }
+    }
+}
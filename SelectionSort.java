@@ -24,4 +24,77 @@ public class SelectionSort {
 			arr[min] = temp;
 		}
 	}
+	
+	// Ranges at or below this size are finished by sorting them outright
+	static final int SMALL_RANGE = 16;
+	
+	// Method to find the k-th smallest element (k counts from 0) in linear time
+	// The array is rearranged so that arr[k] holds that element, with nothing larger before it
+	// and nothing smaller after it
+	public static int select(int[] arr, int k) {
+		if (k < 0 || k >= arr.length) {
+			throw new IndexOutOfBoundsException("k: " + k + ", Length: " + arr.length);
+		}
+		selectRange(arr, 0, arr.length - 1, k);
+		return arr[k];
+	}
+	
+	// Method to move the k smallest elements, in ascending order, to the front of the array
+	// The order of the remaining elements is unspecified
+	public static void partialSort(int[] arr, int k) {
+		if (k < 0 || k > arr.length) {
+			throw new IndexOutOfBoundsException("k: " + k + ", Length: " + arr.length);
+		}
+		if (k == 0) {
+			return;
+		}
+		
+		// Split off the k smallest in linear time, then sort only those
+		selectRange(arr, 0, arr.length - 1, k - 1);
+		QuickSort.introSort(arr, 0, k - 2);
+	}
+	
+	// Introselect: quickselect with a median-of-medians fallback guaranteeing linear time
+	static void selectRange(int[] arr, int low, int high, int k) {
+		// After 2 * log2(n) partitions the pivots are clearly poor: switch to median-of-medians
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+		
+		while (high - low + 1 > SMALL_RANGE) {
+			int pivotIndex = depthLimit-- > 0
+					? QuickSort.choosePivot(arr, low, high)
+					: medianOfMedians(arr, low, high);
+			
+			// Three-way partition so runs of keys equal to the pivot are settled in one pass
+			long bounds = QuickSort.partitionThreeWay(arr, low, high, arr[pivotIndex]);
+			int lessEnd = (int) (bounds >>> 32);
+			int greaterStart = (int) bounds;
+			
+			// Continue only in the side that holds position k
+			if (k <= lessEnd) {
+				high = lessEnd;
+			} else if (k >= greaterStart) {
+				low = greaterStart;
+			} else {
+				return; // k falls among the keys equal to the pivot
+			}
+		}
+		InsertionSort.sortSmall(arr, low, high + 1);
+	}
+	
+	// Index of a pivot guaranteed to have at least 30% of the range on each side
+	static int medianOfMedians(int[] arr, int low, int high) {
+		// Move the median of every group of five to the front of the range
+		int count = 0;
+		for (int i = low; i <= high; i += 5) {
+			int end = Math.min(i + 5, high + 1);
+			InsertionSort.sortSmall(arr, i, end);
+			QuickSort.swap(arr, low + count, (i + end - 1) >>> 1);
+			count++;
+		}
+		
+		// The pivot is the median of those medians, found recursively
+		int mid = low + (count - 1) / 2;
+		selectRange(arr, low, low + count - 1, mid);
+		return mid;
+	}
 }
@@ -0,0 +1,98 @@
+package searchAlgorithms;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// LinearSearch without console output or result allocation, for use on hot paths
+// Hits and misses can be counted instead of printed by turning on the optional counters
+public class SilentLinearSearch {
+
+    // Result of search(int[][], int) when the target is not present; unpacks to row -1, column -1
+    public static final long NOT_FOUND = -1L;
+
+    // Counting is off by default so an unmonitored search costs only one volatile read
+    static volatile boolean countersEnabled = false;
+    static final LongAdder hits = new LongAdder();
+    static final LongAdder misses = new LongAdder();
+
+    // Linear search for an integer in an array
+    public static int search(int[] arr, int target) {
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == target) {
+                record(true);
+                return i;
+            }
+        }
+        record(false);
+        return -1;
+    }
+
+    // Check if an integer is present in an array
+    public static boolean contains(int[] arr, int target) {
+        return search(arr, target) != -1;
+    }
+
+    // Linear search for a character in a string
+    public static int search(String str, char target) {
+        int index = str.indexOf(target);
+        record(index != -1);
+        return index;
+    }
+
+    // Search for an integer in a 2D array; returns its row and column packed into a long, or NOT_FOUND
+    public static long search(int[][] arr, int target) {
+        for (int i = 0; i < arr.length; i++) {
+            int[] row = arr[i];
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] == target) {
+                    record(true);
+                    return pack(i, j);
+                }
+            }
+        }
+        record(false);
+        return NOT_FOUND;
+    }
+
+    // Pack a row and column into a single long
+    public static long pack(int row, int col) {
+        return (long) row << 32 | (col & 0xFFFFFFFFL);
+    }
+
+    // Row of a packed result
+    public static int row(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    // Column of a packed result
+    public static int col(long packed) {
+        return (int) packed;
+    }
+
+    // Turn the hit/miss counters on or off
+    public static void enableCounters(boolean enabled) {
+        countersEnabled = enabled;
+    }
+
+    // Number of searches that found their target since the last reset
+    public static long hitCount() {
+        return hits.sum();
+    }
+
+    // Number of searches that did not find their target since the last reset
+    public static long missCount() {
+        return misses.sum();
+    }
+
+    // Reset both counters to zero
+    public static void resetCounters() {
+        hits.reset();
+        misses.reset();
+    }
+
+    // Count one search outcome if the counters are on
+    static void record(boolean hit) {
+        if (countersEnabled) {
+            (hit ? hits : misses).increment();
+        }
+    }
+}
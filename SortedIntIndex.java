@@ -0,0 +1,88 @@
+package searchAlgorithms;
+
+// Read-only index over a sorted int array, stored in Eytzinger (breadth-first) order
+// The first levels of the implicit tree share a few cache lines and each probe walks
+// down a predictable path, so lookups stay fast on tables much larger than the cache
+public class SortedIntIndex {
+	
+	// Largest table the implicit tree can address without 2k + 1 overflowing
+	static final int MAX_SIZE = 1 << 30;
+	
+	// tree[k] holds the node k of the implicit tree (children at 2k and 2k + 1); tree[0] is unused
+	final int[] tree;
+	
+	// rank[k] is the position of tree[k] in the sorted input; rank[0] is the size, meaning "past the end"
+	final int[] rank;
+	
+	final int size;
+	
+	// Build the index from an array sorted in ascending order
+	public SortedIntIndex(int[] sorted) {
+		if (sorted.length >= MAX_SIZE) {
+			throw new IllegalArgumentException("Too many elements: " + sorted.length);
+		}
+		size = sorted.length;
+		tree = new int[size + 1];
+		rank = new int[size + 1];
+		rank[0] = size;
+		build(sorted, 0, 1);
+	}
+	
+	// Fill the subtree rooted at k with an in-order walk, returning the next unused sorted position
+	private int build(int[] sorted, int i, int k) {
+		if (k <= size) {
+			i = build(sorted, i, 2 * k);
+			tree[k] = sorted[i];
+			rank[k] = i++;
+			i = build(sorted, i, 2 * k + 1);
+		}
+		return i;
+	}
+	
+	// Number of elements in the index
+	public int size() {
+		return size;
+	}
+	
+	// Position in the sorted input of the first element not less than the key (size if none)
+	public int lowerBound(int key) {
+		return rank[lowerNode(key)];
+	}
+	
+	// Position in the sorted input of the first element greater than the key (size if none)
+	public int upperBound(int key) {
+		int k = 1;
+		while (k <= size) {
+			k = 2 * k + (tree[k] <= key ? 1 : 0);
+		}
+		return rank[k >>> (Integer.numberOfTrailingZeros(~k) + 1)];
+	}
+	
+	// Range [start, end) of positions equal to the key, packed like BinarySearch.equalRange
+	public long equalRange(int key) {
+		return (long) lowerBound(key) << 32 | upperBound(key);
+	}
+	
+	// Position in the sorted input of the key, or -1 if it is not present
+	public int indexOf(int key) {
+		int k = lowerNode(key);
+		return k != 0 && tree[k] == key ? rank[k] : -1;
+	}
+	
+	// Check if the key is present in the index
+	public boolean contains(int key) {
+		int k = lowerNode(key);
+		return k != 0 && tree[k] == key;
+	}
+	
+	// Tree node of the first element not less than the key, or 0 if there is none
+	int lowerNode(int key) {
+		// Descend without branching on the comparison: go right while the node is smaller
+		int k = 1;
+		while (k <= size) {
+			k = 2 * k + (tree[k] < key ? 1 : 0);
+		}
+		// Undo the trailing right turns plus the final left turn to land on the answer
+		return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+	}
+}
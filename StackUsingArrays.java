@@ -40,6 +40,10 @@ public class StackUsingArrays {
   
     // Method to peek at the top element of the stack without removing it
     public int peek() {
+        // Check if the stack is empty
+        if (top == -1) {
+            throw new IndexOutOfBoundsException("Stack is empty");
+        }
         // Return the value at the current top index
         return arr[top];
     }
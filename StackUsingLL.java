@@ -17,7 +17,7 @@ public class StackUsingLL<T> {
     Node top;
 
     // Constructor for initializing an empty stack
-    StackUsingLL() {
+    public StackUsingLL() {
         top = null;
     }
 
@@ -0,0 +1,117 @@
+package sortAlgorithms;
+
+import java.util.Objects;
+
+// Streaming top-k accumulator backed by a bounded binary heap
+// Keeps the k largest (or k smallest) values seen so far in O(k) memory, for inputs too large
+// to hold or sort at once. Each value costs one comparison against the current k-th best and,
+// only when it makes the cut, an O(log k) heap update
+public class TopK {
+
+    // The heap stores keys: the value itself when tracking the largest, its bitwise complement
+    // when tracking the smallest. ~x reverses the order of ints without overflowing, so one
+    // min-heap of keys serves both directions
+    final int[] heap;
+    final boolean smallest;
+    int size;
+
+    TopK(int k, boolean smallest) {
+        if (k < 1)
+            throw new IllegalArgumentException("k must be positive: " + k);
+        this.heap = new int[k];
+        this.smallest = smallest;
+        this.size = 0;
+    }
+
+    // Accumulator that keeps the k largest values
+    public static TopK largest(int k) {
+        return new TopK(k, false);
+    }
+
+    // Accumulator that keeps the k smallest values
+    public static TopK smallest(int k) {
+        return new TopK(k, true);
+    }
+
+    // Offer one value to the accumulator
+    public void add(int val) {
+        int key = smallest ? ~val : val;
+        if (size < heap.length) {
+            // Still filling up: append and restore the heap upwards
+            heap[size] = key;
+            siftUp(size++);
+        } else if (key > heap[0]) {
+            // Better than the current k-th best: it replaces the root
+            heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    // Offer len values of an array starting at off
+    public void addAll(int[] arr, int off, int len) {
+        Objects.checkFromIndexSize(off, len, arr.length);
+        for (int i = off; i < off + len; i++) {
+            add(arr[i]);
+        }
+    }
+
+    // Number of values held, at most k
+    public int size() {
+        return size;
+    }
+
+    // The k-th best value so far, i.e. the one the next value has to beat once k values are held
+    public int threshold() {
+        if (size == 0)
+            throw new IndexOutOfBoundsException("TopK is empty");
+        return smallest ? ~heap[0] : heap[0];
+    }
+
+    // The values held, best first: descending for largest, ascending for smallest
+    public int[] toSortedArray() {
+        int[] keys = new int[size];
+        System.arraycopy(heap, 0, keys, 0, size);
+        QuickSort.introSort(keys);
+
+        // Keys ascend, so the best key is last
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            int key = keys[size - 1 - i];
+            result[i] = smallest ? ~key : key;
+        }
+        return result;
+    }
+
+    // Remove every value but keep the heap array
+    public void clear() {
+        size = 0;
+    }
+
+    // Move the key at index i up until its parent is not larger
+    void siftUp(int i) {
+        int key = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= key)
+                break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    // Move the key at index i down until no child is smaller
+    void siftDown(int i) {
+        int key = heap[i];
+        int child;
+        while ((child = 2 * i + 1) < size) {
+            if (child + 1 < size && heap[child + 1] < heap[child])
+                child++;
+            if (heap[child] >= key)
+                break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+}
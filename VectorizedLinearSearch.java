@@ -0,0 +1,101 @@
+package searchAlgorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD versions of the LinearSearch scans, built on the incubating Vector API
+// Needs --add-modules jdk.incubator.vector at compile time and run time
+public class VectorizedLinearSearch {
+
+    // Widest integer vector the platform supports
+    static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    // Below four lanes the vector loop is no faster than the scalar one, so it is skipped entirely
+    static final boolean VECTORIZED = SPECIES.length() >= 4;
+
+    // Linear search for an integer in an array, without printing
+    public static int search(int[] arr, int target) {
+        int i = 0;
+        if (VECTORIZED) {
+            int bound = SPECIES.loopBound(arr.length);
+            for (; i < bound; i += SPECIES.length()) {
+                VectorMask<Integer> hits = IntVector.fromArray(SPECIES, arr, i).eq(target);
+                if (hits.anyTrue())
+                    return i + hits.firstTrue();
+            }
+        }
+
+        // Scalar tail, and the whole scan on platforms without a useful vector width
+        for (; i < arr.length; i++) {
+            if (arr[i] == target)
+                return i;
+        }
+        return -1;
+    }
+
+    // Check if an integer is present in an array, without printing
+    public static boolean contains(int[] arr, int target) {
+        return search(arr, target) != -1;
+    }
+
+    // Find the maximum element in an array
+    public static int findMaxElem(int[] arr) {
+        int max = arr[0];
+        int i = 0;
+        if (VECTORIZED && arr.length >= SPECIES.length()) {
+            // Keep one running maximum per lane and reduce the lanes once at the end
+            IntVector acc = IntVector.broadcast(SPECIES, max);
+            int bound = SPECIES.loopBound(arr.length);
+            for (; i < bound; i += SPECIES.length()) {
+                acc = acc.max(IntVector.fromArray(SPECIES, arr, i));
+            }
+            max = acc.reduceLanes(VectorOperators.MAX);
+        }
+
+        for (; i < arr.length; i++) {
+            if (arr[i] > max)
+                max = arr[i];
+        }
+        return max;
+    }
+
+    // Find the minimum element in an array
+    public static int findMinElem(int[] arr) {
+        int min = arr[0];
+        int i = 0;
+        if (VECTORIZED && arr.length >= SPECIES.length()) {
+            IntVector acc = IntVector.broadcast(SPECIES, min);
+            int bound = SPECIES.loopBound(arr.length);
+            for (; i < bound; i += SPECIES.length()) {
+                acc = acc.min(IntVector.fromArray(SPECIES, arr, i));
+            }
+            min = acc.reduceLanes(VectorOperators.MIN);
+        }
+
+        for (; i < arr.length; i++) {
+            if (arr[i] < min)
+                min = arr[i];
+        }
+        return min;
+    }
+
+    // Count the number of elements with more than three digits in an array
+    public static int countFourDigitElem(int[] arr) {
+        int total = 0;
+        int i = 0;
+        if (VECTORIZED) {
+            int bound = SPECIES.loopBound(arr.length);
+            for (; i < bound; i += SPECIES.length()) {
+                total += IntVector.fromArray(SPECIES, arr, i).compare(VectorOperators.GT, 999).trueCount();
+            }
+        }
+
+        for (; i < arr.length; i++) {
+            if (arr[i] > 999)
+                total++;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,147 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import searchAlgorithms.BinarySearch;
+import searchAlgorithms.SortedIntIndex;
+
+// Benchmarks for the searches over a sorted array
+// The table holds the even numbers 0, 2, 4, ..., and each invocation looks up a fixed batch of
+// random keys of which about half are odd and therefore missing. Scores are per lookup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BinarySearchBenchmark {
+
+    // Number of keys looked up per invocation
+    static final int QUERIES = 1024;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216", "100000000"})
+    int size;
+
+    int[] sorted;
+    int[] keys;
+    int[] sortedKeys;
+    int[] out;
+    SortedIntIndex index;
+
+    @Setup
+    public void setup() {
+        sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = 2 * i;
+        }
+
+        SplittableRandom random = new SplittableRandom(InputShape.SEED);
+        keys = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            keys[i] = random.nextInt(2 * size);
+        }
+        sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        out = new int[QUERIES];
+        index = new SortedIntIndex(sorted);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int jdkBinarySearch() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += Arrays.binarySearch(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int search() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += BinarySearch.search(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int lowerBound() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += BinarySearch.lowerBound(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int upperBound() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += BinarySearch.upperBound(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long equalRange() {
+        long sum = 0;
+        for (int key : keys) {
+            sum += BinarySearch.equalRange(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int[] searchBatch() {
+        BinarySearch.searchBatch(sorted, keys, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int[] searchBatchSortedKeys() {
+        BinarySearch.searchBatch(sorted, sortedKeys, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int eytzingerLowerBound() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += index.lowerBound(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int eytzingerIndexOf() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += index.indexOf(key);
+        }
+        return sum;
+    }
+}
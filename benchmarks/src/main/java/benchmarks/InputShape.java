@@ -0,0 +1,85 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+
+// Input distributions the sort benchmarks run against
+// Every shape is generated from a fixed seed, so a given size and shape always produce the
+// same array and results stay comparable between runs and between commits
+public enum InputShape {
+    // Uniformly random ints over the whole range
+    RANDOM {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = random.nextInt();
+            }
+        }
+    },
+    // Already in ascending order
+    SORTED {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = i;
+            }
+        }
+    },
+    // In descending order
+    REVERSED {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = arr.length - i;
+            }
+        }
+    },
+    // Ascending up to the middle, then descending again
+    ORGAN_PIPE {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            int half = arr.length / 2;
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = i < half ? i : arr.length - i;
+            }
+        }
+    },
+    // Random values drawn from only a handful of distinct keys
+    FEW_UNIQUE {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = random.nextInt(DISTINCT_KEYS);
+            }
+        }
+    },
+    // Ascending order with about one element in a hundred swapped to a random position
+    NEARLY_SORTED {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            SORTED.fill(arr, random);
+            int swaps = Math.max(1, arr.length / 100);
+            for (int s = 0; s < swaps; s++) {
+                int i = random.nextInt(arr.length);
+                int j = random.nextInt(arr.length);
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        }
+    };
+
+    // Number of distinct values in a FEW_UNIQUE input
+    static final int DISTINCT_KEYS = 16;
+
+    // Seed shared by every generated input
+    static final long SEED = 0x5EED_CAFEL;
+
+    // Generate an array of the given size in this shape
+    public int[] generate(int size) {
+        int[] arr = new int[size];
+        fill(arr, new SplittableRandom(SEED));
+        return arr;
+    }
+
+    abstract void fill(int[] arr, SplittableRandom random);
+}
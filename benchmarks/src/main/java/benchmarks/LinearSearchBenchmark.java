@@ -0,0 +1,107 @@
+package benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import searchAlgorithms.LinearSearch;
+import searchAlgorithms.SilentLinearSearch;
+import searchAlgorithms.VectorizedLinearSearch;
+
+// Benchmarks for the linear scans, scalar and vectorized
+// The array holds non-negative random values; a hit looks for the value in the middle of the
+// array and a miss for -1, which forces a scan of the whole array
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsPrepend = "--add-modules=jdk.incubator.vector", jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinearSearchBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216", "100000000"})
+    int size;
+
+    @Param({"true", "false"})
+    boolean hit;
+
+    int[] arr;
+    int target;
+    PrintStream stdout;
+
+    @Setup
+    public void setup() {
+        arr = InputShape.RANDOM.generate(size);
+        for (int i = 0; i < size; i++) {
+            arr[i] &= Integer.MAX_VALUE;
+        }
+        target = hit ? arr[size / 2] : -1;
+
+        // LinearSearch prints on every call: keep the cost of formatting, drop the console output
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public int search() {
+        return LinearSearch.search(arr, target);
+    }
+
+    @Benchmark
+    public int silentSearch() {
+        return SilentLinearSearch.search(arr, target);
+    }
+
+    @Benchmark
+    public int vectorizedSearch() {
+        return VectorizedLinearSearch.search(arr, target);
+    }
+
+    @Benchmark
+    public int findMaxElem() {
+        return LinearSearch.findMaxElem(arr);
+    }
+
+    @Benchmark
+    public int vectorizedFindMaxElem() {
+        return VectorizedLinearSearch.findMaxElem(arr);
+    }
+
+    @Benchmark
+    public int findMinElem() {
+        return LinearSearch.findMinElem(arr);
+    }
+
+    @Benchmark
+    public int vectorizedFindMinElem() {
+        return VectorizedLinearSearch.findMinElem(arr);
+    }
+
+    @Benchmark
+    public int countFourDigitElem() {
+        return LinearSearch.countFourDigitElem(arr);
+    }
+
+    @Benchmark
+    public int vectorizedCountFourDigitElem() {
+        return VectorizedLinearSearch.countFourDigitElem(arr);
+    }
+}
@@ -0,0 +1,78 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import searchAlgorithms.LinearSearch;
+import searchAlgorithms.MatrixSearch;
+import searchAlgorithms.SilentLinearSearch;
+
+// Benchmarks for the searches over square 2D arrays
+// size is the number of cells; cell (i, j) holds 2 * (i * side + j), so rows and columns are
+// both sorted. A hit looks for the middle cell and a miss for the odd value right after it
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MatrixSearchBenchmark {
+
+    @Param({"16", "4096", "1048576", "100000000"})
+    int size;
+
+    @Param({"true", "false"})
+    boolean hit;
+
+    int[][] matrix;
+    int target;
+
+    @Setup
+    public void setup() {
+        int side = (int) Math.sqrt(size);
+        matrix = new int[side][side];
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                matrix[i][j] = 2 * (i * side + j);
+            }
+        }
+        int middle = matrix[side / 2][side / 2];
+        target = hit ? middle : middle + 1;
+    }
+
+    @Benchmark
+    public int[] search() {
+        return LinearSearch.search(matrix, target);
+    }
+
+    @Benchmark
+    public long silentSearch() {
+        return SilentLinearSearch.search(matrix, target);
+    }
+
+    @Benchmark
+    public long parallelSearch() {
+        return MatrixSearch.parallelSearch(matrix, target);
+    }
+
+    @Benchmark
+    public long staircaseSearch() {
+        return MatrixSearch.staircaseSearch(matrix, target);
+    }
+
+    @Benchmark
+    public long rowBinarySearch() {
+        return MatrixSearch.rowBinarySearch(matrix, target);
+    }
+}
@@ -0,0 +1,85 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sortAlgorithms.BubbleSort;
+import sortAlgorithms.InsertionSort;
+import sortAlgorithms.QuickSort;
+import sortAlgorithms.SelectionSort;
+
+// Benchmarks for the sorts that are quadratic in the worst case
+// These stop at 65536 elements: beyond that a single invocation takes minutes, and the plain
+// recursive quickSort can overflow the stack on organ-pipe input
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleSortBenchmark {
+
+    @Param({"16", "256", "4096", "65536"})
+    int size;
+
+    @Param
+    InputShape shape;
+
+    int[] input;
+
+    @Setup
+    public void setup() {
+        input = shape.generate(size);
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return input.clone();
+    }
+
+    @Benchmark
+    public int[] bubbleSort() {
+        int[] arr = input.clone();
+        BubbleSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        int[] arr = input.clone();
+        InsertionSort.sort(arr, 0, arr.length);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] binaryInsertionSort() {
+        int[] arr = input.clone();
+        InsertionSort.binarySort(arr, 0, arr.length, 1);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] selectionSort() {
+        int[] arr = input.clone();
+        SelectionSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        int[] arr = input.clone();
+        QuickSort.quickSort(arr, 0, arr.length - 1);
+        return arr;
+    }
+}
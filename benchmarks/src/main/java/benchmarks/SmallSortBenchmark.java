@@ -0,0 +1,68 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sortAlgorithms.InsertionSort;
+
+// Benchmarks for the small-array kernels used as base cases by the larger sorts
+// Compares the sorting-network dispatcher InsertionSort.sortSmall with shifting and binary
+// insertion sort at every size it covers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmallSortBenchmark {
+
+    @Param({"2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16"})
+    int size;
+
+    @Param
+    InputShape shape;
+
+    int[] input;
+
+    @Setup
+    public void setup() {
+        input = shape.generate(size);
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return input.clone();
+    }
+
+    @Benchmark
+    public int[] sortSmall() {
+        int[] arr = input.clone();
+        InsertionSort.sortSmall(arr, 0, arr.length);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        int[] arr = input.clone();
+        InsertionSort.sort(arr, 0, arr.length);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] binaryInsertionSort() {
+        int[] arr = input.clone();
+        InsertionSort.binarySort(arr, 0, arr.length, 1);
+        return arr;
+    }
+}
@@ -0,0 +1,177 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sortAlgorithms.AdaptiveSort;
+import sortAlgorithms.CoSort;
+import sortAlgorithms.MergeSort;
+import sortAlgorithms.QuickSort;
+import sortAlgorithms.RadixSort;
+import sortAlgorithms.SelectionSort;
+import sortAlgorithms.TopK;
+
+// Benchmarks for the O(n log n) and linear-time sorts, plus selection, over every input shape
+// Each invocation sorts a fresh copy of the generated input, so the time includes one array
+// copy; the copy benchmark measures that cost alone so it can be subtracted
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortBenchmark {
+
+    // Number of values kept by the top-k and partial sort benchmarks
+    static final int K = 100;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216", "100000000"})
+    int size;
+
+    @Param
+    InputShape shape;
+
+    int[] input;
+    int[] identity;
+
+    @Setup
+    public void setup() {
+        input = shape.generate(size);
+        identity = new int[size];
+        for (int i = 0; i < size; i++) {
+            identity[i] = i;
+        }
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return input.clone();
+    }
+
+    @Benchmark
+    public int[] jdkSort() {
+        int[] arr = input.clone();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] introSort() {
+        int[] arr = input.clone();
+        QuickSort.introSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] dualPivotQuickSort() {
+        int[] arr = input.clone();
+        QuickSort.sort(arr, QuickSort.Partition.DUAL_PIVOT);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] threeWayQuickSort() {
+        int[] arr = input.clone();
+        QuickSort.sort(arr, QuickSort.Partition.THREE_WAY);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] mergeSort() {
+        return MergeSort.sort(input.clone());
+    }
+
+    @Benchmark
+    public int[] bottomUpMergeSort() {
+        int[] arr = input.clone();
+        MergeSort.sort(arr, 0, arr.length);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        int[] arr = input.clone();
+        MergeSort.parallelSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] adaptiveSort() {
+        int[] arr = input.clone();
+        AdaptiveSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] arr = input.clone();
+        RadixSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] parallelRadixSort() {
+        int[] arr = input.clone();
+        RadixSort.parallelSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] msdRadixSort() {
+        int[] arr = input.clone();
+        RadixSort.msdSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] coSort() {
+        int[] keys = input.clone();
+        int[] values = identity.clone();
+        CoSort.sort(keys, values);
+        return values;
+    }
+
+    @Benchmark
+    public int[] coSortUnstable() {
+        int[] keys = input.clone();
+        int[] values = identity.clone();
+        CoSort.sortUnstable(keys, values);
+        return values;
+    }
+
+    @Benchmark
+    public int[] argsort() {
+        return CoSort.argsort(input);
+    }
+
+    @Benchmark
+    public int select() {
+        return SelectionSort.select(input.clone(), size / 2);
+    }
+
+    @Benchmark
+    public int[] partialSort() {
+        int[] arr = input.clone();
+        SelectionSort.partialSort(arr, Math.min(K, size));
+        return arr;
+    }
+
+    @Benchmark
+    public int[] topK() {
+        TopK top = TopK.largest(K);
+        top.addAll(input, 0, input.length);
+        return top.toSortedArray();
+    }
+}
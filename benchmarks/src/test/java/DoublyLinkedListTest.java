@@ -0,0 +1,131 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// Checks that the value index of DoublyLinkedList never changes what the list does
+// Every operation is applied to a list with the index and one without, and both are compared
+// element by element, by identity, against a java.util list
+class DoublyLinkedListTest {
+
+    // Equal by key only, so equal values are still told apart by identity
+    static final class Value {
+        final int key;
+
+        Value(int key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Value && ((Value) other).key == key;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(key);
+        }
+    }
+
+    @Test
+    void removeValueTakesTheFirstDuplicateWithAndWithoutIndex() {
+        Value first = new Value(1);
+        Value second = new Value(1);
+        Value third = new Value(1);
+
+        for (boolean indexed : new boolean[] {false, true}) {
+            DoublyLinkedList<Value> list = new DoublyLinkedList<>();
+            if (indexed)
+                list.enableValueIndex();
+            list.insertAtEnd(second);
+            list.addAtBeginning(first);
+            list.insertAtEnd(third);
+            list.addAtPos(1, new Value(2));
+
+            // first, 2, second, third: the duplicates go in the order they sit in the list
+            list.removeValue(new Value(1));
+            assertSame(second, list.get(1));
+            list.removeValue(new Value(1));
+            assertSame(third, list.get(1));
+            assertEquals(1, list.search(new Value(1)));
+        }
+    }
+
+    @Test
+    void indexedListMatchesPlainList() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < 200; round++) {
+            DoublyLinkedList<Value> plain = new DoublyLinkedList<>();
+            DoublyLinkedList<Value> indexed = new DoublyLinkedList<>();
+            indexed.enableValueIndex();
+            List<Value> expected = new ArrayList<>();
+
+            for (int step = 0; step < 200; step++) {
+                Value val = new Value(random.nextInt(8));
+                int op = random.nextInt(expected.isEmpty() ? 3 : 8);
+                switch (op) {
+                    case 0 -> {
+                        plain.addAtBeginning(val);
+                        indexed.addAtBeginning(val);
+                        expected.add(0, val);
+                    }
+                    case 1 -> {
+                        plain.insertAtEnd(val);
+                        indexed.insertAtEnd(val);
+                        expected.add(val);
+                    }
+                    case 2 -> {
+                        int pos = random.nextInt(expected.size() + 1);
+                        plain.addAtPos(pos, val);
+                        indexed.addAtPos(pos, val);
+                        expected.add(pos, val);
+                    }
+                    case 3 -> {
+                        int pos = random.nextInt(expected.size());
+                        plain.deleteAtpos(pos);
+                        indexed.deleteAtpos(pos);
+                        expected.remove(pos);
+                    }
+                    case 4 -> {
+                        int pos = random.nextInt(expected.size());
+                        plain.update(pos, val);
+                        indexed.update(pos, val);
+                        expected.set(pos, val);
+                    }
+                    case 5 -> {
+                        plain.deleteAtEnd();
+                        indexed.deleteAtEnd();
+                        expected.remove(expected.size() - 1);
+                    }
+                    default -> {
+                        boolean removed = expected.remove(val);
+                        assertEquals(removed, plain.removeValue(val));
+                        assertEquals(removed, indexed.removeValue(val));
+                    }
+                }
+
+                // Toggling the index now and then must rebuild it in list order
+                if (random.nextInt(50) == 0) {
+                    indexed.disableValueIndex();
+                    indexed.enableValueIndex();
+                }
+
+                Value probe = new Value(random.nextInt(8));
+                assertEquals(expected.indexOf(probe), plain.search(probe));
+                assertEquals(expected.indexOf(probe), indexed.search(probe));
+                assertEquals(expected.contains(probe), indexed.contains(probe));
+            }
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), plain.get(i));
+                assertSame(expected.get(i), indexed.get(i));
+            }
+            assertEquals(expected.isEmpty(), Objects.isNull(indexed.head));
+        }
+    }
+}
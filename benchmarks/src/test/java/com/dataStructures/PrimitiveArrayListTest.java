@@ -0,0 +1,163 @@
+package com.dataStructures;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// Checks of IntArrayList, LongArrayList and DoubleArrayList against java.util.ArrayList
+// Random sequences of single and bulk inserts and removals run from a tiny initial capacity, so
+// every growth policy is exercised many times; the long and double lists replay the same
+// sequence and must end up holding the same values as the int list
+class PrimitiveArrayListTest {
+
+    static final GrowthPolicy[] POLICIES = {
+        GrowthPolicy.DOUBLING, GrowthPolicy.ONE_AND_A_HALF, GrowthPolicy.increment(3)
+    };
+
+    @Test
+    void randomOperationsMatchArrayList() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < 300; round++) {
+            GrowthPolicy policy = POLICIES[round % POLICIES.length];
+            int initialCapacity = random.nextInt(3);
+            IntArrayList ints = new IntArrayList(initialCapacity, policy);
+            LongArrayList longs = new LongArrayList(initialCapacity, policy);
+            DoubleArrayList doubles = new DoubleArrayList(initialCapacity, policy);
+            List<Integer> expected = new ArrayList<>();
+
+            for (int step = 0; step < 100; step++) {
+                int size = expected.size();
+                switch (random.nextInt(size == 0 ? 3 : 7)) {
+                    case 0 -> {
+                        int val = random.nextInt();
+                        ints.add(val);
+                        longs.add(val);
+                        doubles.add(val);
+                        expected.add(val);
+                    }
+                    case 1 -> {
+                        int[] src = random.ints(random.nextInt(20)).toArray();
+                        int off = random.nextInt(src.length + 1);
+                        int len = random.nextInt(src.length - off + 1);
+                        ints.addAll(src, off, len);
+                        longs.addAll(toLongs(src), off, len);
+                        doubles.addAll(toDoubles(src), off, len);
+                        for (int i = off; i < off + len; i++) {
+                            expected.add(src[i]);
+                        }
+                    }
+                    case 2 -> {
+                        int pos = random.nextInt(size + 1);
+                        int[] src = random.ints(random.nextInt(20)).toArray();
+                        ints.insertAll(pos, src, 0, src.length);
+                        longs.insertAll(pos, toLongs(src), 0, src.length);
+                        doubles.insertAll(pos, toDoubles(src), 0, src.length);
+                        for (int i = 0; i < src.length; i++) {
+                            expected.add(pos + i, src[i]);
+                        }
+                    }
+                    case 3 -> {
+                        int pos = random.nextInt(size + 1);
+                        int val = random.nextInt();
+                        ints.addAtSpecPos(pos, val);
+                        longs.addAtSpecPos(pos, val);
+                        doubles.addAtSpecPos(pos, val);
+                        expected.add(pos, val);
+                    }
+                    case 4 -> {
+                        int pos = random.nextInt(size);
+                        int old = expected.remove(pos);
+                        assertEquals(old, ints.deleteAtSpecPos(pos));
+                        assertEquals(old, longs.deleteAtSpecPos(pos));
+                        assertEquals(old, doubles.deleteAtSpecPos(pos));
+                    }
+                    case 5 -> {
+                        int from = random.nextInt(size + 1);
+                        int to = random.nextInt(from, size + 1);
+                        ints.removeRange(from, to);
+                        longs.removeRange(from, to);
+                        doubles.removeRange(from, to);
+                        expected.subList(from, to).clear();
+                    }
+                    default -> {
+                        int pos = random.nextInt(size);
+                        int val = random.nextInt();
+                        assertEquals((int) expected.set(pos, val), ints.set(pos, val));
+                        longs.set(pos, val);
+                        doubles.set(pos, val);
+                    }
+                }
+
+                assertEquals(expected.size(), ints.size());
+                assertEquals(expected.size(), longs.size());
+                assertEquals(expected.size(), doubles.size());
+            }
+
+            int[] values = expected.stream().mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(values, ints.toArray());
+            assertArrayEquals(toLongs(values), longs.toArray());
+            assertArrayEquals(toDoubles(values), doubles.toArray());
+        }
+    }
+
+    @Test
+    void capacityFollowsPolicyAndTrims() {
+        IntArrayList list = new IntArrayList(4, GrowthPolicy.DOUBLING);
+        list.addAll(new int[] {1, 2, 3, 4});
+        assertEquals(4, list.capacity());
+
+        // DOUBLING gives 2 * 4 + 1, and a bulk insert larger than that gets exactly what it needs
+        list.add(5);
+        assertEquals(9, list.capacity());
+        list.addAll(new int[40]);
+        assertEquals(45, list.capacity());
+
+        // Removals keep the backing array until trimToSize, and clear keeps it for reuse
+        list.removeRange(5, 45);
+        assertEquals(45, list.capacity());
+        list.trimToSize();
+        assertEquals(5, list.capacity());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, list.toArray());
+        list.clear();
+        assertEquals(5, list.capacity());
+
+        list.ensureCapacity(100);
+        assertEquals(100, list.capacity());
+        list.ensureCapacity(10);
+        assertEquals(100, list.capacity());
+    }
+
+    @Test
+    void rejectsBadPositionsAndRanges() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(new int[] {1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAtSpecPos(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(new int[2], 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+        assertArrayEquals(new int[] {1, 2, 3}, list.toArray());
+    }
+
+    static long[] toLongs(int[] src) {
+        long[] out = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            out[i] = src[i];
+        }
+        return out;
+    }
+
+    static double[] toDoubles(int[] src) {
+        double[] out = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            out[i] = src[i];
+        }
+        return out;
+    }
+}
@@ -0,0 +1,86 @@
+package searchAlgorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// Cross-check of BinarySearch.searchBatch against the single-key searches
+// Arrays are full of duplicates and come in both sort directions, and key batches are tried both
+// unsorted (interleaved lookups) and sorted (merge-style pass)
+class BinarySearchTest {
+
+    static final int ROUNDS = 2000;
+
+    @Test
+    void batchMatchesSearchFirst() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < ROUNDS; round++) {
+            int[] sorted = sortedArray(random, random.nextInt(0, 300), random.nextBoolean());
+            int[] keys = random.ints(random.nextInt(0, 100), -10, 70).toArray();
+            if (random.nextBoolean())
+                Arrays.sort(keys);
+
+            int[] expected = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                expected[i] = BinarySearch.searchFirst(sorted, keys[i]);
+            }
+            int[] out = new int[keys.length];
+            BinarySearch.searchBatch(sorted, keys, out);
+            assertArrayEquals(expected, out);
+        }
+    }
+
+    @Test
+    void searchFirstFindsTheLeftmostMatch() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int round = 0; round < ROUNDS; round++) {
+            int[] sorted = sortedArray(random, random.nextInt(0, 300), random.nextBoolean());
+            int key = random.nextInt(-10, 70);
+
+            int first = -1;
+            for (int i = 0; i < sorted.length; i++) {
+                if (sorted[i] == key) {
+                    first = i;
+                    break;
+                }
+            }
+            assertEquals(first, BinarySearch.searchFirst(sorted, key));
+        }
+    }
+
+    @Test
+    void searchFindsSomeMatch() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int round = 0; round < ROUNDS; round++) {
+            int[] sorted = sortedArray(random, random.nextInt(0, 300), random.nextBoolean());
+            int key = random.nextInt(-10, 70);
+
+            // search may stop at any equal element, so only check that it agrees on presence
+            int index = BinarySearch.search(sorted, key);
+            if (BinarySearch.searchFirst(sorted, key) == -1) {
+                assertEquals(-1, index);
+            } else {
+                assertTrue(index >= 0 && sorted[index] == key);
+            }
+        }
+    }
+
+    // Values in [0, 60) so most keys repeat, sorted ascending or descending
+    static int[] sortedArray(SplittableRandom random, int length, boolean descending) {
+        int[] arr = random.ints(length, 0, 60).toArray();
+        Arrays.sort(arr);
+        if (descending) {
+            for (int i = 0, j = length - 1; i < j; i++, j--) {
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        }
+        return arr;
+    }
+}
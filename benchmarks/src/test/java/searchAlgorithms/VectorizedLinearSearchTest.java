@@ -0,0 +1,85 @@
+package searchAlgorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// Cross-check of VectorizedLinearSearch against the scalar LinearSearch
+// Lengths run from empty through less than one vector up to several vectors plus a tail, and the
+// values include Integer.MIN_VALUE and Integer.MAX_VALUE, which sit at the edges of the lane min/max
+class VectorizedLinearSearchTest {
+
+    static final int MAX_LENGTH = 4 * VectorizedLinearSearch.SPECIES.length() + 64;
+    static final int ROUNDS = 20;
+
+    static PrintStream stdout;
+
+    // LinearSearch prints on every call; keep the test output readable
+    @BeforeAll
+    static void silence() {
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @AfterAll
+    static void restore() {
+        System.setOut(stdout);
+    }
+
+    @Test
+    void matchesScalarVersions() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            for (int round = 0; round < ROUNDS; round++) {
+                int[] arr = randomArray(random, length);
+                check(arr, Integer.MIN_VALUE);
+                check(arr, Integer.MAX_VALUE);
+                check(arr, random.nextInt(-8, 8));
+                if (length > 0)
+                    check(arr, arr[random.nextInt(length)]);
+            }
+        }
+    }
+
+    @Test
+    void matchesScalarVersionsOnLongArrays() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int round = 0; round < ROUNDS; round++) {
+            int[] arr = randomArray(random, random.nextInt(1000, 100_000));
+            check(arr, arr[arr.length - 1]);
+            check(arr, 1000);
+        }
+    }
+
+    // Compare every vectorized method with its scalar counterpart on one array
+    static void check(int[] arr, int target) {
+        assertEquals(LinearSearch.search(arr, target), VectorizedLinearSearch.search(arr, target));
+        assertEquals(LinearSearch.contains(arr, target), VectorizedLinearSearch.contains(arr, target));
+        assertEquals(LinearSearch.countFourDigitElem(arr), VectorizedLinearSearch.countFourDigitElem(arr));
+        if (arr.length > 0) {
+            assertEquals(LinearSearch.findMaxElem(arr), VectorizedLinearSearch.findMaxElem(arr));
+            assertEquals(LinearSearch.findMinElem(arr), VectorizedLinearSearch.findMinElem(arr));
+        }
+    }
+
+    // Mix of small values (so duplicates and hits are common), wide random values and the int extremes
+    static int[] randomArray(SplittableRandom random, int length) {
+        int[] arr = new int[length];
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(8)) {
+                case 0 -> arr[i] = Integer.MIN_VALUE;
+                case 1 -> arr[i] = Integer.MAX_VALUE;
+                case 2, 3 -> arr[i] = random.nextInt();
+                case 4 -> arr[i] = random.nextInt(990, 1010);
+                default -> arr[i] = random.nextInt(-8, 8);
+            }
+        }
+        return arr;
+    }
+}